@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.function.Supplier;
+
+import static io.vavr.API.Try;
+
+public final class GatewayCall {
+
+    private GatewayCall() {
+    }
+
+    // A sobrecarga do gateway sobe como exceção para virar 503; as demais falhas viram Notification.
+    public static <T> Either<Notification, T> attempt(final Supplier<T> aCall) {
+        return Try(aCall::get)
+                .onFailure(OverloadedException.class, ex -> {
+                    throw ex;
+                })
+                .toEither()
+                .mapLeft(Notification::create);
+    }
+}
@@ -4,16 +4,15 @@ import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
-import io.vavr.API;
 import io.vavr.control.Either;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static io.vavr.API.Left;
-import static io.vavr.API.Try;
+import static com.fullcycle.admin.catalogo.application.GatewayCall.attempt;
 
 public class DefaultActivateCategoryUseCase extends ActivateCategoryUseCase {
 
@@ -27,16 +26,12 @@ public class DefaultActivateCategoryUseCase extends ActivateCategoryUseCase {
     @Override
     public Either<Notification, ActivateCategoryOutput> execute(ActivateCategoryCommand aCommand) {
         final var anId = CategoryID.from(aCommand.id());
-        final var aCategory = this.categoryGateway.findById(anId)
-                .orElseThrow(notFound(anId));
-        aCategory.activate();
-        return aCategory.hasErrors() ? Left(aCategory.getNotification()) : update(aCategory);
-    }
-
-    private Either<Notification, ActivateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
-                .toEither()
-                .bimap(Notification::create, ActivateCategoryOutput::from);
+        final var aChange = Category.activationOf(anId, Instant.now());
+        final var activated = attempt(() -> this.categoryGateway.applyChange(aChange));
+        if (activated.isRight() && !activated.get()) {
+            throw notFound(anId).get();
+        }
+        return activated.map(ignored -> ActivateCategoryOutput.from(anId.getValue()));
     }
 
     private Supplier<DomainException> notFound(final CategoryID anId) {
@@ -2,35 +2,38 @@ package com.fullcycle.admin.catalogo.application.category.create;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
 import io.vavr.control.Either;
 
 import java.util.Objects;
 
+import static com.fullcycle.admin.catalogo.application.GatewayCall.attempt;
 import static io.vavr.API.Left;
-import static io.vavr.API.Try;
 
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
 
-    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway, final IdGenerator idGenerator) {
         Objects.requireNonNull(categoryGateway);
+        Objects.requireNonNull(idGenerator);
         this.categoryGateway = categoryGateway;
+        this.idGenerator = idGenerator;
     }
 
     @Override
     public Either<Notification, CreateCategoryOutput> execute(CreateCategoryCommand aCommand) {
         final var aName = aCommand.name();
         final var aDescription = aCommand.description();
-        final Category aCategory = Category.newCategory(aName, aDescription);
+        final Category aCategory = Category.newCategory(CategoryID.unique(this.idGenerator), aName, aDescription);
         return aCategory.hasErrors() ? Left(aCategory.getNotification()) : create(aCategory);
     }
 
     private Either<Notification, CreateCategoryOutput> create(Category aCategory) {
-        return Try(() -> this.categoryGateway.create(aCategory))
-                .toEither()
-                .bimap(Notification::create, CreateCategoryOutput::from);
+        return attempt(() -> this.categoryGateway.create(aCategory)).map(CreateCategoryOutput::from);
     }
 }
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+
+import java.util.List;
+
+public record BatchCreateCategoryCommand(
+        List<CreateCategoryCommand> items
+) {
+    public static BatchCreateCategoryCommand with(final List<CreateCategoryCommand> items) {
+        return new BatchCreateCategoryCommand(items);
+    }
+}
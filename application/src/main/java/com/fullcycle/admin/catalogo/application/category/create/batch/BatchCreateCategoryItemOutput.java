@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BatchCreateCategoryItemOutput(
+        int index,
+        String id,
+        List<Error> errors
+) {
+
+    public static BatchCreateCategoryItemOutput created(final int anIndex, final Category aCategory) {
+        return new BatchCreateCategoryItemOutput(anIndex, aCategory.getId().getValue(), List.of());
+    }
+
+    public static BatchCreateCategoryItemOutput rejected(final int anIndex, final List<Error> errors) {
+        return new BatchCreateCategoryItemOutput(anIndex, null, List.copyOf(errors));
+    }
+
+    public boolean isCreated() {
+        return this.id != null;
+    }
+}
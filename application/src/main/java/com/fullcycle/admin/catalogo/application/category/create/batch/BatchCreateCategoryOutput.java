@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import java.util.List;
+
+public record BatchCreateCategoryOutput(
+        List<BatchCreateCategoryItemOutput> items
+) {
+
+    public static BatchCreateCategoryOutput from(final List<BatchCreateCategoryItemOutput> items) {
+        return new BatchCreateCategoryOutput(items);
+    }
+
+    public boolean isAllCreated() {
+        return this.items.stream().allMatch(BatchCreateCategoryItemOutput::isCreated);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class BatchCreateCategoryUseCase
+        extends UseCase<BatchCreateCategoryCommand, Either<Notification, BatchCreateCategoryOutput>> {
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fullcycle.admin.catalogo.application.GatewayCall.attempt;
+import static io.vavr.API.Right;
+
+public class DefaultBatchCreateCategoryUseCase extends BatchCreateCategoryUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway categoryGateway, final IdGenerator idGenerator) {
+        Objects.requireNonNull(categoryGateway);
+        Objects.requireNonNull(idGenerator);
+        this.categoryGateway = categoryGateway;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public Either<Notification, BatchCreateCategoryOutput> execute(final BatchCreateCategoryCommand aCommand) {
+        final var items = aCommand.items();
+        final var results = new BatchCreateCategoryItemOutput[items.size()];
+        final var validCategories = new ArrayList<Category>(items.size());
+        final var validIndexes = new ArrayList<Integer>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            final var anItem = items.get(index);
+            final var aCategory = Category.newCategory(
+                    CategoryID.unique(this.idGenerator), anItem.name(), anItem.description());
+            final var aNotification = Notification.create();
+            aCategory.validate(aNotification);
+            if (aNotification.hasErrors()) {
+                results[index] = BatchCreateCategoryItemOutput.rejected(index, aNotification.getErrors());
+            } else {
+                validCategories.add(aCategory);
+                validIndexes.add(index);
+            }
+        }
+
+        return createAll(validCategories)
+                .map(created -> {
+                    for (int i = 0; i < created.size(); i++) {
+                        final int index = validIndexes.get(i);
+                        results[index] = BatchCreateCategoryItemOutput.created(index, created.get(i));
+                    }
+                    return BatchCreateCategoryOutput.from(List.of(results));
+                });
+    }
+
+    private Either<Notification, List<Category>> createAll(final List<Category> aCategories) {
+        if (aCategories.isEmpty()) {
+            return Right(List.of());
+        }
+        return attempt(() -> this.categoryGateway.createAll(aCategories));
+    }
+}
@@ -1,6 +1,5 @@
 package com.fullcycle.admin.catalogo.application.category.deactivate;
 
-import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryOutput;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -9,11 +8,11 @@ import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static io.vavr.API.Left;
-import static io.vavr.API.Try;
+import static com.fullcycle.admin.catalogo.application.GatewayCall.attempt;
 
 public class DefaultDeactivateCategoryUseCase extends DeactivateCategoryUseCase {
 
@@ -27,16 +26,12 @@ public class DefaultDeactivateCategoryUseCase extends DeactivateCategoryUseCase
     @Override
     public Either<Notification, DeactivateCategoryOutput> execute(DeactivateCategoryCommand aCommand) {
         final var anId = CategoryID.from(aCommand.id());
-        final var aCategory = this.categoryGateway.findById(anId)
-                .orElseThrow(notFound(anId));
-        aCategory.deactivate();
-        return aCategory.hasErrors() ? Left(aCategory.getNotification()) : update(aCategory);
-    }
-
-    private Either<Notification, DeactivateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
-                .toEither()
-                .bimap(Notification::create, DeactivateCategoryOutput::from);
+        final var aChange = Category.deactivationOf(anId, Instant.now());
+        final var deactivated = attempt(() -> this.categoryGateway.applyChange(aChange));
+        if (deactivated.isRight() && !deactivated.get()) {
+            throw notFound(anId).get();
+        }
+        return deactivated.map(ignored -> DeactivateCategoryOutput.from(anId.getValue()));
     }
 
     private Supplier<DomainException> notFound(final CategoryID anId) {
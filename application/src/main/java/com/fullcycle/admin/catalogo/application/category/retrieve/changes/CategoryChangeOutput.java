@@ -0,0 +1,50 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+
+import java.time.Instant;
+
+public record CategoryChangeOutput(
+        String id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt,
+        boolean removed
+) {
+
+    // Uma categoria removida só tem o id e o instante da remoção, informado como updatedAt e deletedAt.
+    public static CategoryChangeOutput from(final CategoryFeedItem anItem) {
+        if (anItem.isRemoved()) {
+            return new CategoryChangeOutput(
+                    anItem.id().getValue(), null, null, false, null, anItem.changedAt(), anItem.changedAt(), true);
+        }
+        final var aCategory = anItem.category();
+        return new CategoryChangeOutput(
+                aCategory.id().getValue(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.isActive(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt(),
+                false
+        );
+    }
+
+    public static CategoryChangeOutput from(final Category aCategory) {
+        return new CategoryChangeOutput(
+                aCategory.getId().getValue(),
+                aCategory.getName(),
+                aCategory.getDescription(),
+                aCategory.isActive(),
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                aCategory.getDeletedAt(),
+                false
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListCategoryChangesUseCase extends ListCategoryChangesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoryChangesUseCase(final CategoryGateway categoryGateway) {
+        Objects.requireNonNull(categoryGateway);
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public Pagination<CategoryChangeOutput> execute(final CategoryChangesQuery aQuery) {
+        return this.categoryGateway.findChanges(aQuery)
+                .map(CategoryChangeOutput::from);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+public abstract class ListCategoryChangesUseCase
+        extends UseCase<CategoryChangesQuery, Pagination<CategoryChangeOutput>> {
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        Objects.requireNonNull(categoryGateway);
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public Long execute(final ExportCategoriesCommand aCommand) {
+        final var aConsumer = aCommand.consumer();
+        return this.categoryGateway.forEachUpdatedSince(
+                aCommand.since(),
+                aCategory -> aConsumer.accept(CategoryChangeOutput.from(aCategory))
+        );
+    }
+}
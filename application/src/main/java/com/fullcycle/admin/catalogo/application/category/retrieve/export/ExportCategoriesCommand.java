@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+public record ExportCategoriesCommand(
+        Instant since,
+        Consumer<CategoryChangeOutput> consumer
+) {
+
+    public static ExportCategoriesCommand with(final Instant since, final Consumer<CategoryChangeOutput> consumer) {
+        return new ExportCategoriesCommand(since, consumer);
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.application.category.retrieve.list;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
 
 import java.time.Instant;
 
@@ -24,4 +25,15 @@ public record CategoryListOutput(
                 aCategory.getDeletedAt()
         );
     }
+
+    public static CategoryListOutput from(CategorySummary aSummary) {
+        return new CategoryListOutput(
+                aSummary.id().getValue(),
+                aSummary.name(),
+                aSummary.description(),
+                aSummary.isActive(),
+                aSummary.createdAt(),
+                aSummary.deletedAt()
+        );
+    }
 }
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class ProjectedListCategoriesUseCase extends ListCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public ProjectedListCategoriesUseCase(final CategoryGateway categoryGateway) {
+        Objects.requireNonNull(categoryGateway);
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findSummaries(aQuery)
+                .map(CategoryListOutput::from);
+    }
+}
@@ -3,15 +3,17 @@ package com.fullcycle.admin.catalogo.application.category.update;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryValidator;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
+import java.time.Instant;
 import java.util.Objects;
 import java.util.function.Supplier;
 
+import static com.fullcycle.admin.catalogo.application.GatewayCall.attempt;
 import static io.vavr.API.Left;
-import static io.vavr.API.Try;
 
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
@@ -27,16 +29,30 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var anId = CategoryID.from(aCommand.id());
         final var aName = aCommand.name();
         final var aDescription = aCommand.description();
-        final var aCategory = this.categoryGateway.findById(anId)
-                .orElseThrow(notFound(anId));
-        aCategory.update(aName, aDescription);
-        return aCategory.hasErrors() ? Left(aCategory.getNotification()) : update(aCategory);
+        final var aNotification = Notification.create();
+        new CategoryValidator(aName, aNotification).validate();
+        return aNotification.hasErrors() ? invalid(anId, aNotification) : update(anId, aName, aDescription);
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
-                .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+    // Um id inexistente continua respondendo 404 antes do 422; a leitura extra só acontece com um nome inválido.
+    private Either<Notification, UpdateCategoryOutput> invalid(final CategoryID anId, final Notification aNotification) {
+        if (this.categoryGateway.findById(anId).isEmpty()) {
+            throw notFound(anId).get();
+        }
+        return Left(aNotification);
+    }
+
+    private Either<Notification, UpdateCategoryOutput> update(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription
+    ) {
+        final var aChange = Category.updateOf(anId, aName, aDescription, Instant.now());
+        final var updated = attempt(() -> this.categoryGateway.applyChange(aChange));
+        if (updated.isRight() && !updated.get()) {
+            throw notFound(anId).get();
+        }
+        return updated.map(ignored -> UpdateCategoryOutput.from(anId.getValue()));
     }
 
     private Supplier<NotFoundException> notFound(final CategoryID anId) {
@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.application;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class GatewayCallTest {
+
+    @Test
+    void Given_a_successful_call_When_calls_attempt_Then_should_return_the_value_on_the_right() {
+        // when
+        final var actualResult = GatewayCall.attempt(() -> "Filmes");
+        // then
+        assertTrue(actualResult.isRight());
+        assertEquals("Filmes", actualResult.get());
+    }
+
+    @Test
+    void Given_a_gateway_error_When_calls_attempt_Then_should_return_a_notification() {
+        // when
+        final var actualResult = GatewayCall.attempt(() -> {
+            throw new IllegalStateException("Gateway Error");
+        });
+        // then
+        assertTrue(actualResult.isLeft());
+        assertEquals("Gateway Error", actualResult.getLeft().firstError().message());
+    }
+
+    @Test
+    void Given_an_overloaded_gateway_When_calls_attempt_Then_should_rethrow_the_exception() {
+        // given
+        final var expectedException = new OverloadedException("'categories' is at its limit of 20 concurrent calls", Duration.ofSeconds(1));
+        // when
+        final var actualException = assertThrows(OverloadedException.class,
+                () -> GatewayCall.attempt(() -> {
+                    throw expectedException;
+                }));
+        // then
+        assertSame(expectedException, actualException);
+    }
+}
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.activate;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
@@ -11,11 +13,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Objects;
-import java.util.Optional;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -25,9 +25,8 @@ class ActivateCategoryUseCaseTest {
 
     /**
      * 1. Teste do caminho feliz
-     * 2. Teste passando uma propriedade inválida (name)
-     * 4. Teste simulando um erro genérico vindo do Gateway
-     * 4. Teste ativar categoria passando ID inválido.
+     * 2. Teste simulando um erro genérico vindo do Gateway
+     * 3. Teste ativar categoria passando ID inválido.
      */
 
     @Mock
@@ -43,210 +42,48 @@ class ActivateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
-                    .thenAnswer(returnsFirstArg());
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_return_an_ouput() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            final var actualOutput = activateCategoryUseCase.execute(aCommand).get();
-            // then
-            assertNotNull(actualOutput);
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
+                    .thenReturn(true);
         }
 
         @Test
         void Given_a_valid_command_When_calls_activate_category_Then_should_return_an_ouput_with_category_id() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida")
                     .deactivate();
             final var expectedId = aCategory.getId();
             final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             final var actualOutput = activateCategoryUseCase.execute(aCommand).get();
             // then
-            assertNotNull(actualOutput.id());
+            assertEquals(expectedId.getValue(), actualOutput.id());
         }
 
         @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_that_gateway_findById_was_invoked_only_once() {
+        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var before = Instant.now();
             // when
             activateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway, times(1)).findById(any(CategoryID.class));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange ->
+                    aChange.id().equals(expectedId)
+                            && !aChange.updatedAt().isBefore(before)
+                            && aChange.event().equals(CategoryEvent.activated(expectedId, aChange.updatedAt()))));
         }
 
         @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_that_gateway_update_was_invoked_only_once() {
+        void Given_a_valid_command_When_calls_activate_category_Then_should_not_load_the_category() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             activateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_id_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedId, anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_name_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_description_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_isActive_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = true;
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_createdAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_updatedAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_activate_category_Then_should_verify_argument_category_deletedAt_was_is_null() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.isNull(anUpdatedCategory.getDeletedAt());
-            }));
+            verify(categoryGateway, never()).findById(any(CategoryID.class));
+            verify(categoryGateway, never()).update(any(Category.class));
         }
     }
 
@@ -259,21 +96,15 @@ class ActivateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
                     .thenThrow(new IllegalStateException(GATEWAY_ERROR));
         }
 
         @Test
         void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_return_an_error_message() {
             // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             final var expectedErrorMessage = GATEWAY_ERROR;
             // when
             final var notification = activateCategoryUseCase.execute(aCommand).getLeft();
@@ -282,154 +113,14 @@ class ActivateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_that_gateway_update_was_invoked_only_once() {
-            // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_id_was_passed_to_gateway_update() {
+        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             activateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedId, anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_name_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_description_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_isActive_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = true;
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_createdAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_updatedAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_deletedAt_is_null() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = ActivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            activateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.isNull(anUpdatedCategory.getDeletedAt());
-            }));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange -> aChange.id().equals(expectedId)));
         }
     }
 
@@ -447,8 +138,8 @@ class ActivateCategoryUseCaseTest {
             // given
             final var expectedId = "123";
             final var aCommand = ActivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> activateCategoryUseCase.execute(aCommand);
             final var expectedErrorMessage = "Category with ID %s was not found"
                     .formatted(expectedId);
@@ -463,8 +154,8 @@ class ActivateCategoryUseCaseTest {
             // given
             final var expectedId = "123";
             final var aCommand = ActivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> activateCategoryUseCase.execute(aCommand);
             final var expectedErrorCount = 1;
             // when
@@ -474,31 +165,18 @@ class ActivateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_a_command_with_invalid_id_When_calls_activate_category_Then_should_verify_that_gateway_findById_was_invoked_only_once() {
+        void Given_a_command_with_invalid_id_When_calls_activate_category_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
             final var expectedId = "123";
             final var aCommand = ActivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> activateCategoryUseCase.execute(aCommand);
             // when
             assertThrows(DomainException.class, invokeInvalidMethod);
             // then
-            verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
-        }
-
-        @Test
-        void Given_a_command_with_invalid_id_When_calls_activate_category_verify_that_gateway_update_was_never_invoked() {
-            // given
-            final var expectedId = "123";
-            final var aCommand = ActivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
-            final Executable invokeInvalidMethod = () -> activateCategoryUseCase.execute(aCommand);
-            // when
-            assertThrows(DomainException.class, invokeInvalidMethod);
-            // then
-            verify(categoryGateway, never()).update(any(Category.class));
+            verify(categoryGateway, times(1)).applyChange(
+                    argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId))));
         }
     }
 }
@@ -2,17 +2,24 @@ package com.fullcycle.admin.catalogo.application.category.create;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.domain.identifier.TimeOrderedIdGenerator;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -30,6 +37,9 @@ class CreateCategoryUseCaseTest {
     @Mock
     CategoryGateway categoryGateway;
 
+    @Spy
+    IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
     @InjectMocks
     DefaultCreateCategoryUseCase createCategoryUseCase;
 
@@ -68,6 +78,18 @@ class CreateCategoryUseCaseTest {
             assertNotNull(actualOutput.id());
         }
 
+        @Test
+        void Given_a_valid_command_When_calls_create_category_Then_should_mint_the_id_with_the_injected_generator() {
+            // given
+            final var expectedId = UUID.fromString("018c2b5e-7a00-7000-8000-000000000001");
+            final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida");
+            doReturn(expectedId).when(idGenerator).next();
+            // when
+            final var actualOutput = createCategoryUseCase.execute(aCommand).get();
+            // then
+            assertEquals(expectedId.toString(), actualOutput.id());
+        }
+
         @Test
         void Given_a_valid_command_When_calls_create_category_Then_should_verify_that_gateway_create_was_invoked_only_once() {
             // given
@@ -365,4 +387,26 @@ class CreateCategoryUseCaseTest {
             }));
         }
     }
+
+    @Nested
+    @DisplayName("Create with overloaded gateway")
+    class CreateWithOverloadedGateway {
+
+        @BeforeEach
+        void init() {
+            reset(categoryGateway);
+            when(categoryGateway.create(any(Category.class)))
+                    .thenThrow(new OverloadedException("'categories' is at its limit of 20 concurrent calls", Duration.ofSeconds(1)));
+        }
+
+        @Test
+        void Given_a_valid_command_When_gateway_is_overloaded_Then_should_propagate_the_exception_instead_of_a_notification() {
+            // given
+            final var aCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida");
+            // when
+            final var actualException = assertThrows(OverloadedException.class, () -> createCategoryUseCase.execute(aCommand));
+            // then
+            assertEquals(Duration.ofSeconds(1), actualException.getRetryAfter());
+        }
+    }
 }
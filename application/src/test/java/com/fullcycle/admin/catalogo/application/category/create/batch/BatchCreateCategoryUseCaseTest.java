@@ -0,0 +1,118 @@
+package com.fullcycle.admin.catalogo.application.category.create.batch;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.domain.identifier.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class BatchCreateCategoryUseCaseTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @Spy
+    IdGenerator idGenerator = new TimeOrderedIdGenerator();
+
+    @InjectMocks
+    DefaultBatchCreateCategoryUseCase batchCreateCategoryUseCase;
+
+    @Nested
+    @DisplayName("Create a batch with valid commands")
+    class CreateBatchWithValidCommands {
+
+        @Test
+        void Given_valid_commands_When_calls_batch_create_Then_should_create_all_in_one_gateway_call() {
+            // given
+            final var aCommand = BatchCreateCategoryCommand.with(List.of(
+                    CreateCategoryCommand.with("Filmes", "A categoria mais assistida"),
+                    CreateCategoryCommand.with("Séries", "A categoria menos assistida")
+            ));
+            when(categoryGateway.createAll(anyList()))
+                    .thenAnswer(returnsFirstArg());
+            // when
+            final var actualOutput = batchCreateCategoryUseCase.execute(aCommand).get();
+            // then
+            assertTrue(actualOutput.isAllCreated());
+            assertEquals(2, actualOutput.items().size());
+            assertEquals(0, actualOutput.items().get(0).index());
+            assertNotNull(actualOutput.items().get(0).id());
+            assertEquals(1, actualOutput.items().get(1).index());
+            assertNotNull(actualOutput.items().get(1).id());
+            verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Create a batch with invalid commands")
+    class CreateBatchWithInvalidCommands {
+
+        @Test
+        void Given_an_invalid_command_When_calls_batch_create_Then_should_reject_only_that_item() {
+            // given
+            final var expectedErrorMessage = "'name' should not be null";
+            final var aCommand = BatchCreateCategoryCommand.with(List.of(
+                    CreateCategoryCommand.with(null, "A categoria mais assistida"),
+                    CreateCategoryCommand.with("Séries", "A categoria menos assistida")
+            ));
+            when(categoryGateway.createAll(anyList()))
+                    .thenAnswer(returnsFirstArg());
+            // when
+            final var actualOutput = batchCreateCategoryUseCase.execute(aCommand).get();
+            // then
+            assertFalse(actualOutput.isAllCreated());
+            assertNull(actualOutput.items().get(0).id());
+            assertEquals(expectedErrorMessage, actualOutput.items().get(0).errors().get(0).message());
+            assertNotNull(actualOutput.items().get(1).id());
+            verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 1));
+        }
+
+        @Test
+        void Given_only_invalid_commands_When_calls_batch_create_Then_should_not_call_gateway() {
+            // given
+            final var aCommand = BatchCreateCategoryCommand.with(List.of(
+                    CreateCategoryCommand.with("Fi", "A categoria mais assistida")
+            ));
+            // when
+            final var actualOutput = batchCreateCategoryUseCase.execute(aCommand).get();
+            // then
+            assertEquals("'name' must be between 3 and 255 characters",
+                    actualOutput.items().get(0).errors().get(0).message());
+            verify(categoryGateway, never()).createAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Create a batch with a generic error from gateway")
+    class CreateBatchWithAGenericErrorFromGateway {
+
+        @Test
+        void Given_a_gateway_error_When_calls_batch_create_Then_should_return_notification() {
+            // given
+            final var expectedErrorMessage = "Gateway error";
+            final var aCommand = BatchCreateCategoryCommand.with(List.of(
+                    CreateCategoryCommand.with("Filmes", "A categoria mais assistida")
+            ));
+            when(categoryGateway.createAll(anyList()))
+                    .thenThrow(new IllegalStateException(expectedErrorMessage));
+            // when
+            final var actualNotification = batchCreateCategoryUseCase.execute(aCommand).getLeft();
+            // then
+            assertEquals(expectedErrorMessage, actualNotification.getErrors().get(0).message());
+        }
+    }
+}
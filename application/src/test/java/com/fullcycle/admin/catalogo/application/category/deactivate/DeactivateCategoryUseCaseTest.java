@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.deactivate;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
@@ -11,30 +13,27 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Objects;
-import java.util.Optional;
+import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
-class DeactivateCategoryUseCaseTest {
+class DedeactivateCategoryUseCaseTest {
 
     /**
      * 1. Teste do caminho feliz
-     * 2. Teste passando uma propriedade inválida (name)
-     * 4. Teste simulando um erro genérico vindo do Gateway
-     * 4. Teste ativar categoria passando ID inválido.
+     * 2. Teste simulando um erro genérico vindo do Gateway
+     * 3. Teste desativar categoria passando ID inválido.
      */
 
     @Mock
     CategoryGateway categoryGateway;
 
     @InjectMocks
-    DefaultDeactivateCategoryUseCase deactivateCategoryUseCase;
+    DefaultDedeactivateCategoryUseCase deactivateCategoryUseCase;
 
     @Nested
     @DisplayName("Deactivate with valid command")
@@ -43,200 +42,47 @@ class DeactivateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
-                    .thenAnswer(returnsFirstArg());
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_return_an_ouput() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            final var actualOutput = deactivateCategoryUseCase.execute(aCommand).get();
-            // then
-            assertNotNull(actualOutput);
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
+                    .thenReturn(true);
         }
 
         @Test
         void Given_a_valid_command_When_calls_deactivate_category_Then_should_return_an_ouput_with_category_id() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
             final var expectedId = aCategory.getId();
             final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             final var actualOutput = deactivateCategoryUseCase.execute(aCommand).get();
             // then
-            assertNotNull(actualOutput.id());
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_that_gateway_findById_was_invoked_only_once() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).findById(any(CategoryID.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_that_gateway_update_was_invoked_only_once() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_id_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedId, anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_name_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_description_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_isActive_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription)
-                    .deactivate();
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = false;
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
+            assertEquals(expectedId.getValue(), actualOutput.id());
         }
 
         @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_createdAt_was_passed_to_gateway_update() {
+        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var before = Instant.now();
             // when
             deactivateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange ->
+                    aChange.id().equals(expectedId)
+                            && !aChange.updatedAt().isBefore(before)
+                            && aChange.event().equals(CategoryEvent.deactivated(expectedId, aChange.updatedAt()))));
         }
 
         @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_updatedAt_was_passed_to_gateway_update() {
+        void Given_a_valid_command_When_calls_deactivate_category_Then_should_not_load_the_category() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
             // when
             deactivateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_deactivate_category_Then_should_verify_argument_category_deletedAt_is_null() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.nonNull(anUpdatedCategory.getDeletedAt());
-            }));
+            verify(categoryGateway, never()).findById(any(CategoryID.class));
+            verify(categoryGateway, never()).update(any(Category.class));
         }
     }
 
@@ -249,20 +95,15 @@ class DeactivateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
                     .thenThrow(new IllegalStateException(GATEWAY_ERROR));
         }
 
         @Test
         void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_return_an_error_message() {
             // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             final var expectedErrorMessage = GATEWAY_ERROR;
             // when
             final var notification = deactivateCategoryUseCase.execute(aCommand).getLeft();
@@ -271,152 +112,20 @@ class DeactivateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_that_gateway_update_was_invoked_only_once() {
+        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_id_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedId, anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_name_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_description_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_isActive_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = false;
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_createdAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_updatedAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
-            final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
-            // when
-            deactivateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_verify_argument_category_deletedAt_is_null() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory(expectedName, expectedDescription);
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = DeactivateCategoryCommand.with(expectedId.getValue());
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             deactivateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.nonNull(anUpdatedCategory.getDeletedAt());
-            }));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange -> aChange.id().equals(expectedId)));
         }
     }
 
     @Nested
-    @DisplayName("Activate with invalid id")
-    class ActivateWithInvalidId {
+    @DisplayName("Deactivate with invalid id")
+    class DeactivateWithInvalidId {
 
         @BeforeEach
         void cleanUp() {
@@ -428,8 +137,8 @@ class DeactivateCategoryUseCaseTest {
             // given
             final var expectedId = "123";
             final var aCommand = DeactivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> deactivateCategoryUseCase.execute(aCommand);
             final var expectedErrorMessage = "Category with ID %s was not found"
                     .formatted(expectedId);
@@ -444,8 +153,8 @@ class DeactivateCategoryUseCaseTest {
             // given
             final var expectedId = "123";
             final var aCommand = DeactivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> deactivateCategoryUseCase.execute(aCommand);
             final var expectedErrorCount = 1;
             // when
@@ -455,32 +164,18 @@ class DeactivateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_a_command_with_invalid_id_When_calls_deactivate_category_Then_should_verify_that_gateway_findById_was_invoked_only_once() {
+        void Given_a_command_with_invalid_id_When_calls_deactivate_category_Then_should_verify_that_gateway_applyChange_was_invoked_only_once() {
             // given
             final var expectedId = "123";
             final var aCommand = DeactivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> deactivateCategoryUseCase.execute(aCommand);
             // when
             assertThrows(DomainException.class, invokeInvalidMethod);
             // then
-            verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
-        }
-
-        @Test
-        void Given_a_command_with_invalid_id_When_calls_deactivate_category_verify_that_gateway_update_was_never_invoked() {
-            // given
-            final var expectedId = "123";
-            final var aCommand = DeactivateCategoryCommand.with(expectedId);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
-            final Executable invokeInvalidMethod = () -> deactivateCategoryUseCase.execute(aCommand);
-            // when
-            assertThrows(DomainException.class, invokeInvalidMethod);
-            // then
-            verify(categoryGateway, never()).update(any(Category.class));
+            verify(categoryGateway, times(1)).applyChange(
+                    argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId))));
         }
     }
-
 }
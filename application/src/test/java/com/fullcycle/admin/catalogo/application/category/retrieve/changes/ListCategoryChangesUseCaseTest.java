@@ -0,0 +1,107 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.changes;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class ListCategoryChangesUseCaseTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @InjectMocks
+    DefaultListCategoryChangesUseCase listCategoryChangesUseCase;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Nested
+    @DisplayName("List changes with a valid query")
+    class ListChangesWithAValidQuery {
+
+        @Test
+        void Given_changed_categories_When_calls_list_changes_Then_should_return_them_with_the_next_cursor() {
+            // given
+            final var createdAt = Instant.parse("2024-01-01T00:00:00Z");
+            final var deletedAt = createdAt.plusSeconds(60);
+            final var items = List.of(
+                    CategoryFeedItem.changed(new CategorySummary(
+                            CategoryID.unique(), "Filmes", "A categoria mais assistida", true, createdAt, createdAt, null)),
+                    CategoryFeedItem.changed(new CategorySummary(
+                            CategoryID.unique(), "Séries", null, false, createdAt, deletedAt, deletedAt)));
+            final var aQuery = new CategoryChangesQuery(createdAt, null, 2);
+            final var expectedNext = "dXBkYXRlZEF0CmFzYwoxMjMKMjAyNA";
+            final var expectedItems = items.stream().map(CategoryChangeOutput::from).toList();
+
+            when(categoryGateway.findChanges(eq(aQuery)))
+                    .thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL, items, expectedNext, true));
+
+            // when
+            final var actualResult = listCategoryChangesUseCase.execute(aQuery);
+
+            // then
+            assertEquals(expectedItems, actualResult.items());
+            assertEquals(expectedNext, actualResult.next());
+            assertTrue(actualResult.hasNext());
+            assertEquals(deletedAt, actualResult.items().get(1).deletedAt());
+            assertFalse(actualResult.items().get(1).removed());
+        }
+
+        @Test
+        void Given_a_removed_category_When_calls_list_changes_Then_should_return_only_its_id_and_removal_instant() {
+            // given
+            final var anId = CategoryID.unique();
+            final var removedAt = Instant.parse("2024-01-01T00:00:00Z");
+            final var aQuery = new CategoryChangesQuery(null, null, 10);
+
+            when(categoryGateway.findChanges(eq(aQuery)))
+                    .thenReturn(new Pagination<>(0, 10, Pagination.UNKNOWN_TOTAL,
+                            List.of(CategoryFeedItem.removed(anId, removedAt)), null, false));
+
+            // when
+            final var actualResult = listCategoryChangesUseCase.execute(aQuery);
+
+            // then
+            assertEquals(
+                    List.of(new CategoryChangeOutput(anId.getValue(), null, null, false, null, removedAt, removedAt, true)),
+                    actualResult.items());
+        }
+
+        @Test
+        void Given_a_gateway_error_When_calls_list_changes_Then_should_propagate_it() {
+            // given
+            final var expectedErrorMessage = "Gateway error";
+
+            when(categoryGateway.findChanges(any()))
+                    .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+            // when
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> listCategoryChangesUseCase.execute(new CategoryChangesQuery(null, null, 10)));
+
+            // then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.export;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class ExportCategoriesUseCaseTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @InjectMocks
+    DefaultExportCategoriesUseCase exportCategoriesUseCase;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Nested
+    @DisplayName("Export with a valid command")
+    class ExportWithAValidCommand {
+
+        @Test
+        void Given_stored_categories_When_calls_export_categories_Then_should_emit_every_category_in_order() {
+            // given
+            final var categories = List.of(
+                    Category.newCategory("Filmes", "A categoria mais assistida"),
+                    Category.newCategory("Séries", null).deactivate());
+            final var expectedSince = Instant.parse("2024-01-01T00:00:00Z");
+            final var actualOutputs = new ArrayList<CategoryChangeOutput>();
+
+            when(categoryGateway.forEachUpdatedSince(eq(expectedSince), any()))
+                    .thenAnswer(invocation -> {
+                        final Consumer<Category> aConsumer = invocation.getArgument(1);
+                        categories.forEach(aConsumer);
+                        return (long) categories.size();
+                    });
+
+            // when
+            final var actualCount = exportCategoriesUseCase.execute(
+                    ExportCategoriesCommand.with(expectedSince, actualOutputs::add));
+
+            // then
+            assertEquals(2L, actualCount);
+            assertEquals(categories.stream().map(CategoryChangeOutput::from).toList(), actualOutputs);
+            assertFalse(actualOutputs.get(1).active());
+            assertNotNull(actualOutputs.get(1).deletedAt());
+        }
+
+        @Test
+        void Given_a_gateway_error_When_calls_export_categories_Then_should_propagate_it() {
+            // given
+            final var expectedErrorMessage = "Gateway error";
+
+            when(categoryGateway.forEachUpdatedSince(any(), any()))
+                    .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+            // when
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> exportCategoriesUseCase.execute(ExportCategoriesCommand.with(null, output -> {})));
+
+            // then
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+        }
+    }
+}
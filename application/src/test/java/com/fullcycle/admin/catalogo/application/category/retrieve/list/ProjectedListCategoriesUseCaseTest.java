@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.application.category.retrieve.list;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class ProjectedListCategoriesUseCaseTest {
+
+    @Mock
+    CategoryGateway categoryGateway;
+
+    @InjectMocks
+    ProjectedListCategoriesUseCase listCategoriesUseCase;
+
+    @Nested
+    @DisplayName("List the projected rows")
+    class ListTheProjectedRows {
+
+        @Test
+        void Given_a_page_of_summaries_When_calls_list_categories_Then_should_map_each_summary_to_a_list_output() {
+            // given
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+            final var createdAt = Instant.now();
+            final var deletedAt = createdAt.plusSeconds(60);
+            final var filmes = new CategorySummary(
+                    CategoryID.from("123"), "Filmes", "A categoria mais assistida", true, createdAt, createdAt, null);
+            final var series = new CategorySummary(
+                    CategoryID.from("456"), "Séries", null, false, createdAt, deletedAt, deletedAt);
+            when(categoryGateway.findSummaries(eq(aQuery)))
+                    .thenReturn(new Pagination<>(0, 10, 2, List.of(filmes, series)));
+            // when
+            final var actualOutput = listCategoriesUseCase.execute(aQuery);
+            // then
+            assertEquals(2, actualOutput.total());
+            assertEquals(
+                    List.of(
+                            new CategoryListOutput("123", "Filmes", "A categoria mais assistida", true, createdAt, null),
+                            new CategoryListOutput("456", "Séries", null, false, createdAt, deletedAt)),
+                    actualOutput.items());
+        }
+
+        @Test
+        void Given_a_valid_query_When_calls_list_categories_Then_should_not_load_the_aggregates() {
+            // given
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+            when(categoryGateway.findSummaries(eq(aQuery)))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.<CategorySummary>of()));
+            // when
+            listCategoriesUseCase.execute(aQuery);
+            // then
+            verify(categoryGateway, never()).findAll(any(CategorySearchQuery.class));
+        }
+
+        @Test
+        void Given_a_gateway_error_When_calls_list_categories_Then_should_propagate_it() {
+            // given
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+            when(categoryGateway.findSummaries(eq(aQuery)))
+                    .thenThrow(new IllegalStateException("Gateway error"));
+            // when
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> listCategoriesUseCase.execute(aQuery));
+            // then
+            assertEquals("Gateway error", actualException.getMessage());
+        }
+    }
+}
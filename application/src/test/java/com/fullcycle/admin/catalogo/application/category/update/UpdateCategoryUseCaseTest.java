@@ -1,10 +1,12 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
-import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,13 +15,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Objects;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -29,9 +30,8 @@ public class UpdateCategoryUseCaseTest {
     /**
      * 1. Teste do caminho feliz
      * 2. Teste passando uma propriedade inválida (name)
-     * 3. Teste atualizando uma categoria para inativa
-     * 4. Teste simulando um erro genérico vindo do Gateway
-     * 5. Teste atualizar categoria passando ID inválido.
+     * 3. Teste simulando um erro genérico vindo do Gateway
+     * 4. Teste atualizar categoria passando ID inválido.
      */
 
     @Mock
@@ -47,24 +47,8 @@ public class UpdateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
-                    .thenAnswer(returnsFirstArg());
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_return_an_ouput() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            final var actualOutput = updateCategoryUseCase.execute(aCommand).get();
-            // then
-            assertNotNull(actualOutput);
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
+                    .thenReturn(true);
         }
 
         @Test
@@ -75,171 +59,40 @@ public class UpdateCategoryUseCaseTest {
             final var aCategory = Category.newCategory("Film", " ");
             final var expectedId = aCategory.getId();
             final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             // when
             final var actualOutput = updateCategoryUseCase.execute(aCommand).get();
             // then
-            assertNotNull(actualOutput.id());
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_that_gateway_findById_was_invoked_only_once() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).findById(any(CategoryID.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_that_gateway_update_was_invoked_only_once() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_id_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedId, anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_name_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_description_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_Then_should_verify_argument_isActive_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = true;
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
+            assertEquals(expectedId.getValue(), actualOutput.id());
         }
 
         @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_createdAt_was_passed_to_gateway_update() {
+        void Given_a_valid_command_When_calls_update_category_Then_should_verify_arguments_passed_to_gateway_applyChange() {
             // given
             final var expectedName = "Filmes";
             final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_updatedAt_was_passed_to_gateway_update() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
+            final var before = Instant.now();
             // when
             updateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange ->
+                    aChange.id().equals(expectedId)
+                            && aChange.details().equals(new CategoryChange.Details(expectedName, expectedDescription))
+                            && !aChange.updatedAt().isBefore(before)
+                            && aChange.event().equals(CategoryEvent.updated(expectedId, aChange.updatedAt()))));
         }
 
         @Test
-        void Given_a_valid_command_When_calls_update_category_Then_should_verify_argument_category_deletedAt_was_is_null() {
+        void Given_a_valid_command_When_calls_update_category_Then_should_not_load_the_category() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var expectedId = CategoryID.unique();
+            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida");
             // when
             updateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.isNull(anUpdatedCategory.getDeletedAt());
-            }));
+            verify(categoryGateway, never()).findById(any(CategoryID.class));
+            verify(categoryGateway, never()).update(any(Category.class));
         }
     }
 
@@ -248,8 +101,10 @@ public class UpdateCategoryUseCaseTest {
     class UpdateWithInvalidName {
 
         @BeforeEach
-        void cleanUp() {
+        void init() {
             reset(categoryGateway);
+            when(categoryGateway.findById(any(CategoryID.class)))
+                    .thenReturn(Optional.of(Category.newCategory("Filmes", null)));
         }
 
         @Test
@@ -257,11 +112,8 @@ public class UpdateCategoryUseCaseTest {
             // given
             final String expectedName = null;
             final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
+            final var expectedId = CategoryID.unique();
             final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
             final var expectedErrorMessage = "'name' should not be null";
             // when
             Notification notification = updateCategoryUseCase.execute(aCommand).getLeft();
@@ -272,13 +124,8 @@ public class UpdateCategoryUseCaseTest {
         @Test
         void Given_an_invalid_name_When_calls_update_category_Then_should_return_error_count_as_1() {
             // given
-            final String expectedName = null;
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var expectedId = CategoryID.unique();
+            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Fi", "A categoria mais assistida");
             final var expectedErrorCount = 1;
             // when
             Notification notification = updateCategoryUseCase.execute(aCommand).getLeft();
@@ -287,19 +134,14 @@ public class UpdateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_an_invalid_name_When_calls_update_category_Then_should_verify_that_create_has_not_been_called() {
+        void Given_an_invalid_name_When_calls_update_category_Then_should_verify_that_gateway_applyChange_has_not_been_called() {
             // given
-            final String expectedName = null;
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var expectedId = CategoryID.unique();
+            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), " ", "A categoria mais assistida");
             // when
             updateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway, times(0)).create(any(Category.class));
+            verify(categoryGateway, never()).applyChange(any());
         }
     }
 
@@ -312,168 +154,52 @@ public class UpdateCategoryUseCaseTest {
         @BeforeEach
         void init() {
             reset(categoryGateway);
-            when(categoryGateway.update(any(Category.class)))
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
                     .thenThrow(new IllegalStateException(GATEWAY_ERROR));
         }
 
         @Test
         void Given_a_valid_command_When_gateway_throws_random_exception_Then_should_return_an_error_message() {
             // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedErrorMessage = GATEWAY_ERROR;
-            // when
-            Notification notification = updateCategoryUseCase.execute(aCommand).getLeft();
-            // then
-            assertEquals(expectedErrorMessage, notification.firstError().message());
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_update_was_invoked_only_once() {
-            // given
-            final String expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway, times(1)).update(any(Category.class));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_id_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.nonNull(anUpdatedCategory.getId());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_name_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var expectedId = CategoryID.unique();
+            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida");
             // when
-            updateCategoryUseCase.execute(aCommand);
+            final var notification = updateCategoryUseCase.execute(aCommand).getLeft();
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedName, anUpdatedCategory.getName());
-            }));
+            assertEquals(GATEWAY_ERROR, notification.firstError().message());
         }
 
         @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_description_was_passed_to_gateway() {
+        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_applyChange_was_invoked_only_once() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var expectedId = CategoryID.unique();
+            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", "A categoria mais assistida");
             // when
             updateCategoryUseCase.execute(aCommand);
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedDescription, anUpdatedCategory.getDescription());
-            }));
-        }
-
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_isActive_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            final var expectedIsActive = true;
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(expectedIsActive, anUpdatedCategory.isActive());
-            }));
+            verify(categoryGateway, times(1)).applyChange(argThat(aChange -> aChange.id().equals(expectedId)));
         }
+    }
 
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_createdAt_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt());
-            }));
-        }
+    @Nested
+    @DisplayName("Update with overloaded gateway")
+    class UpdateWithOverloadedGateway {
 
-        @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_updatedAt_was_passed_to_gateway() {
-            // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(Category.with(aCategory)));
-            // when
-            updateCategoryUseCase.execute(aCommand);
-            // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return anUpdatedCategory.getUpdatedAt().isAfter(aCategory.getUpdatedAt());
-            }));
+        @BeforeEach
+        void init() {
+            reset(categoryGateway);
+            when(categoryGateway.applyChange(any(CategoryChange.class)))
+                    .thenThrow(new OverloadedException("'categories' is at its limit of 20 concurrent calls", Duration.ofSeconds(1)));
         }
 
         @Test
-        void Given_a_valid_command_When_gateway_throws_exception_Then_should_verify_deletedAt_was_passed_to_gateway() {
+        void Given_a_valid_command_When_gateway_is_overloaded_Then_should_propagate_the_exception_instead_of_a_notification() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
-            final var aCategory = Category.newCategory("Film", " ");
-            final var expectedId = aCategory.getId();
-            final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(expectedId)))
-                    .thenReturn(Optional.of(aCategory));
+            final var aCommand = UpdateCategoryCommand.with(CategoryID.unique().getValue(), "Filmes", "A categoria mais assistida");
             // when
-            updateCategoryUseCase.execute(aCommand);
+            final var actualException = assertThrows(OverloadedException.class, () -> updateCategoryUseCase.execute(aCommand));
             // then
-            verify(categoryGateway).update(argThat(anUpdatedCategory -> {
-                return Objects.isNull(anUpdatedCategory.getDeletedAt());
-            }));
+            assertEquals(Duration.ofSeconds(1), actualException.getRetryAfter());
         }
     }
 
@@ -493,8 +219,8 @@ public class UpdateCategoryUseCaseTest {
             final var expectedDescription = "A categoria mais assistida";
             final var expectedId = "123";
             final var aCommand = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> updateCategoryUseCase.execute(aCommand);
             final var expectedErrorMessage = "Category with ID %s was not found"
                     .formatted(expectedId);
@@ -505,35 +231,35 @@ public class UpdateCategoryUseCaseTest {
         }
 
         @Test
-        void Given_a_command_with_invalid_id_When_calls_update_Then_should_verify_findById_was_invoked_only_once() {
+        void Given_a_command_with_invalid_id_When_calls_update_Then_should_verify_applyChange_was_invoked_only_once() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
             final var expectedId = "123";
-            final var aCommand = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription);
-            when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                    .thenReturn(Optional.empty());
+            final var aCommand = UpdateCategoryCommand.with(expectedId, "Filmes", "A categoria mais assistida");
+            when(categoryGateway.applyChange(argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId)))))
+                    .thenReturn(false);
             final Executable invokeInvalidMethod = () -> updateCategoryUseCase.execute(aCommand);
             // when
-            assertThrows(DomainException.class, invokeInvalidMethod);
+            assertThrows(NotFoundException.class, invokeInvalidMethod);
             // then
-            verify(categoryGateway, times(1)).findById(eq(CategoryID.from(expectedId)));
+            verify(categoryGateway, times(1)).applyChange(
+                    argThat(aChange -> aChange.id().equals(CategoryID.from(expectedId))));
         }
 
         @Test
-        void Given_a_command_with_invalid_id_When_calls_update_category_verify_that_gateway_update_was_never_invoked() {
+        void Given_an_unknown_id_and_an_invalid_name_When_calls_update_category_Then_should_return_not_found_exception() {
             // given
-            final var expectedName = "Filmes";
-            final var expectedDescription = "A categoria mais assistida";
             final var expectedId = "123";
-            final var aCommand = UpdateCategoryCommand.with(expectedId, expectedName, expectedDescription);
+            final var aCommand = UpdateCategoryCommand.with(expectedId, null, "A categoria mais assistida");
             when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
                     .thenReturn(Optional.empty());
             final Executable invokeInvalidMethod = () -> updateCategoryUseCase.execute(aCommand);
+            final var expectedErrorMessage = "Category with ID %s was not found"
+                    .formatted(expectedId);
             // when
-            assertThrows(DomainException.class, invokeInvalidMethod);
+            final var actualException = assertThrows(NotFoundException.class, invokeInvalidMethod);
             // then
-            verify(categoryGateway, never()).update(any(Category.class));
+            assertEquals(expectedErrorMessage, actualException.getMessage());
+            verify(categoryGateway, never()).applyChange(any());
         }
     }
 }
@@ -0,0 +1,39 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.IntStream;
+
+public final class BenchmarkApplication {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(final String... properties) {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .properties(properties)
+                .run();
+    }
+
+    public static void seed(final ConfigurableApplicationContext aContext, final int aTotal) {
+        final var repository = aContext.getBean(CategoryRepository.class);
+        repository.deleteAllInBatch();
+        for (int offset = 0; offset < aTotal; offset += SEED_BATCH_SIZE) {
+            final var entities = IntStream.range(offset, Math.min(offset + SEED_BATCH_SIZE, aTotal))
+                    .mapToObj(i -> Category.newCategory("Category %07d".formatted(i), "Description of category " + i))
+                    .map(CategoryJpaEntity::from)
+                    .toList();
+            repository.saveAll(entities);
+        }
+    }
+}
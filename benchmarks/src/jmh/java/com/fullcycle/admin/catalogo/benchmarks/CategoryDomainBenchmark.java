@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryDomainBenchmark {
+
+    @Param({"Filmes", "  "})
+    private String name;
+
+    private Category category;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.category = Category.newCategory(this.name, "A categoria mais assistida");
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory(this.name, "A categoria mais assistida");
+    }
+
+    @Benchmark
+    public Notification validate() {
+        final var notification = Notification.create();
+        this.category.validate(notification);
+        return notification;
+    }
+}
@@ -0,0 +1,191 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryBulkheadGateway;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Bulkhead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryExecutionModelBenchmark {
+
+    private static final int POOL_SIZE = 20;
+
+    @Param({"WORKER_POOL", "BULKHEAD"})
+    private Model model;
+
+    @Param({"5"})
+    private int queryMillis;
+
+    private GetCategoryByIdUseCase useCase;
+    private String categoryId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+        final var pooledGateway = new PooledCategoryGateway(aCategory, Duration.ofMillis(this.queryMillis));
+        this.categoryId = aCategory.getId().getValue();
+        this.useCase = switch (this.model) {
+            case WORKER_POOL -> new DefaultGetCategoryByIdUseCase(pooledGateway);
+            case BULKHEAD -> new DefaultGetCategoryByIdUseCase(new CategoryBulkheadGateway(
+                    pooledGateway, bulkhead("benchmark", POOL_SIZE), bulkhead("benchmark.export", 1)));
+        };
+    }
+
+    private static Bulkhead bulkhead(final String aName, final int maxConcurrentCalls) {
+        return new Bulkhead(aName, maxConcurrentCalls, Duration.ofMillis(50), Duration.ofSeconds(1),
+                new SimpleMeterRegistry().counter(CategoryBulkheadGateway.REJECTED_CALLS));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public GetCategoryByIdOutput getById(final Outcomes outcomes) {
+        try {
+            final var output = this.useCase.execute(this.categoryId);
+            outcomes.served++;
+            return output;
+        } catch (final OverloadedException ex) {
+            outcomes.rejected++;
+        } catch (final ConnectionTimeoutException ex) {
+            outcomes.timedOut++;
+        }
+        return null;
+    }
+
+    public enum Model {
+        WORKER_POOL,
+        BULKHEAD
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long served;
+        public long rejected;
+        public long timedOut;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.served = 0;
+            this.rejected = 0;
+            this.timedOut = 0;
+        }
+    }
+
+    static class ConnectionTimeoutException extends RuntimeException {
+
+        ConnectionTimeoutException(final String aMessage) {
+            super(aMessage, null, false, false);
+        }
+    }
+
+    // Simula o pool do Hikari: 20 conexões e até 250ms de espera por uma conexão livre
+    static class PooledCategoryGateway implements CategoryGateway {
+
+        private static final Duration CONNECTION_TIMEOUT = Duration.ofMillis(250);
+
+        private final Category category;
+        private final Duration latency;
+        private final Semaphore connections = new Semaphore(POOL_SIZE, true);
+
+        PooledCategoryGateway(final Category aCategory, final Duration aLatency) {
+            this.category = aCategory;
+            this.latency = aLatency;
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryID anId) {
+            try {
+                if (!this.connections.tryAcquire(CONNECTION_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new ConnectionTimeoutException(
+                            "Connection is not available, request timed out after %dms"
+                                    .formatted(CONNECTION_TIMEOUT.toMillis()));
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ConnectionTimeoutException("Interrupted while waiting for a connection");
+            }
+            try {
+                Thread.sleep(this.latency.toMillis());
+                return Optional.of(this.category);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } finally {
+                this.connections.release();
+            }
+        }
+
+        @Override
+        public Category create(final Category aCategory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Category> createAll(final List<Category> aCategories) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(final CategoryID anId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteAllById(final List<CategoryID> anIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Category update(final Category aCategory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean applyChange(final CategoryChange aChange) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryIdGeneratorBenchmark {
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private Generator generator;
+
+    @Benchmark
+    @Threads(1)
+    public UUID next() {
+        return this.generator.idGenerator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID nextContended() {
+        return this.generator.idGenerator.next();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public CategoryID unique() {
+        return CategoryID.unique(this.generator.idGenerator);
+    }
+
+    public enum Generator {
+        RANDOM(IdGenerator.random()),
+        TIME_ORDERED(IdGenerator.timeOrdered());
+
+        final IdGenerator idGenerator;
+
+        Generator(final IdGenerator idGenerator) {
+            this.idGenerator = idGenerator;
+        }
+    }
+}
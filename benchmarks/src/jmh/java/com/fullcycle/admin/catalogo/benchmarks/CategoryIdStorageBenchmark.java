@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(CategoryIdStorageBenchmark.BATCH_SIZE)
+public class CategoryIdStorageBenchmark {
+
+    static final int BATCH_SIZE = 1_000;
+
+    @Param({"VARCHAR", "BINARY"})
+    private IdStorage idStorage;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private CategoryIdGeneratorBenchmark.Generator generator;
+
+    @Param({"2000000"})
+    private int rows;
+
+    private Connection connection;
+    private String table;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        this.connection = DriverManager.getConnection(
+                env("BENCHMARK_MYSQL_URL", "jdbc:mysql://localhost:33306/adm_videos?rewriteBatchedStatements=true"),
+                env("BENCHMARK_MYSQL_USER", "root"),
+                env("BENCHMARK_MYSQL_PASS", "123456")
+        );
+        this.connection.setAutoCommit(false);
+        this.table = "category_id_" + this.idStorage.name().toLowerCase();
+
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + this.table);
+            statement.execute("""
+                    CREATE TABLE %s (
+                        id %s NOT NULL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(4000),
+                        active BOOLEAN NOT NULL DEFAULT TRUE,
+                        created_at DATETIME(6) NOT NULL,
+                        updated_at DATETIME(6) NOT NULL,
+                        deleted_at DATETIME(6) NULL,
+                        INDEX idx_%s_name (name)
+                    )""".formatted(this.table, this.idStorage.columnDefinition, this.table));
+        }
+        for (int offset = 0; offset < this.rows; offset += BATCH_SIZE) {
+            insert(Math.min(BATCH_SIZE, this.rows - offset));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute("SET SESSION information_schema_stats_expiry = 0");
+            statement.execute("ANALYZE TABLE " + this.table);
+            try (final var result = statement.executeQuery("""
+                    SELECT table_rows, data_length, index_length
+                      FROM information_schema.tables
+                     WHERE table_schema = DATABASE() AND table_name = '%s'""".formatted(this.table))) {
+                result.next();
+                System.out.printf("%n%s: rows=%d primary(clustered)=%d bytes secondary=%d bytes%n",
+                        this.table, result.getLong(1), result.getLong(2), result.getLong(3));
+            }
+            statement.execute("DROP TABLE " + this.table);
+        }
+        this.connection.commit();
+        this.connection.close();
+    }
+
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        return insert(BATCH_SIZE);
+    }
+
+    private int insert(final int aSize) throws SQLException {
+        final var now = Timestamp.from(Instant.now());
+        try (final var statement = this.connection.prepareStatement("""
+                INSERT INTO %s (id, name, description, active, created_at, updated_at)
+                VALUES (?, ?, ?, TRUE, ?, ?)""".formatted(this.table))) {
+            for (int i = 0; i < aSize; i++) {
+                final var anId = this.generator.idGenerator.next();
+                this.idStorage.bind(statement, anId);
+                statement.setString(2, "Category " + anId);
+                statement.setString(3, "Description of category " + anId);
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        this.connection.commit();
+        return aSize;
+    }
+
+    private static String env(final String aName, final String aDefault) {
+        return Objects.requireNonNullElse(System.getenv(aName), aDefault);
+    }
+
+    public enum IdStorage {
+        VARCHAR("VARCHAR(36)") {
+            @Override
+            void bind(final PreparedStatement aStatement, final UUID anId) throws SQLException {
+                aStatement.setString(1, anId.toString());
+            }
+        },
+        BINARY("BINARY(16)") {
+            @Override
+            void bind(final PreparedStatement aStatement, final UUID anId) throws SQLException {
+                aStatement.setBytes(1, UuidBinaryConverter.toBinary(anId.toString()));
+            }
+        };
+
+        private final String columnDefinition;
+
+        IdStorage(final String columnDefinition) {
+            this.columnDefinition = columnDefinition;
+        }
+
+        abstract void bind(PreparedStatement aStatement, UUID anId) throws SQLException;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
+import com.fullcycle.admin.catalogo.domain.category.CategorySort;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryListPlan;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryProjection;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Selection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryListQueryBenchmark {
+
+    @Param({"1000"})
+    private int categories;
+
+    @Param({"", "category 000"})
+    private String terms;
+
+    private ConfigurableApplicationContext context;
+    private CategoryRepository categoryRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private CategoryListPlan plan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(this.context, this.categories);
+        this.categoryRepository = this.context.getBean(CategoryRepository.class);
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                this.context.getBean(EntityManagerFactory.class));
+        this.readOnlyTransaction = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.plan = CategoryListPlan.of(CategorySort.NAME, SortDirection.ASC, CategoryFilter.ACTIVE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    // Linha de base: a mesma listagem montada com a Criteria API a cada chamada, como o gateway fazia antes do CategoryListPlan
+    @Benchmark
+    public List<Tuple> criteriaQuery() {
+        return this.readOnlyTransaction.execute(status -> {
+            final var cb = this.entityManager.getCriteriaBuilder();
+            final var query = cb.createTupleQuery();
+            final var root = query.from(CategoryJpaEntity.class);
+            query.multiselect(CategoryProjection.COLUMNS.stream()
+                    .<Selection<?>>map(column -> root.get(column).alias(column))
+                    .toList());
+            final var active = cb.equal(root.get(CategoryProjection.ACTIVE), true);
+            if (this.terms.isBlank()) {
+                query.where(active);
+            } else {
+                final var pattern = SqlUtils.like(this.terms.toUpperCase());
+                query.where(cb.and(active, cb.or(
+                        cb.like(cb.upper(root.get(CategoryProjection.NAME)), pattern),
+                        cb.like(cb.upper(root.get(CategoryProjection.DESCRIPTION)), pattern))));
+            }
+            query.orderBy(cb.asc(root.get(CategoryProjection.NAME)), cb.asc(root.get(CategoryProjection.ID)));
+            return this.entityManager.createQuery(query)
+                    .setFirstResult(0)
+                    .setMaxResults(11)
+                    .getResultList();
+        });
+    }
+
+    @Benchmark
+    public Slice<Tuple> staticQuery() {
+        final var search = this.terms.isBlank() ? CategoryListPlan.Search.NONE : CategoryListPlan.Search.LIKE;
+        final Map<String, Object> parameters = this.terms.isBlank()
+                ? Map.of()
+                : Map.of(CategoryListPlan.TERMS, SqlUtils.like(this.terms.toUpperCase()));
+        return this.categoryRepository.findSlice(this.plan.select(search, false), parameters, PageRequest.of(0, 10));
+    }
+}
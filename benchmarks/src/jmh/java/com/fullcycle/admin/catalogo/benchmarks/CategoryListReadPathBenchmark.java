@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ProjectedListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryListReadPathBenchmark {
+
+    @Param({"10000"})
+    private int categories;
+
+    @Param({"10", "100"})
+    private int perPage;
+
+    private ConfigurableApplicationContext context;
+    private ListCategoriesUseCase aggregateListCategoriesUseCase;
+    private ListCategoriesUseCase projectedListCategoriesUseCase;
+    private CategoryRepository categoryRepository;
+    private CategorySearchQuery aQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(this.context, this.categories);
+        this.aggregateListCategoriesUseCase =
+                new DefaultListCategoriesUseCase(this.context.getBean(CategoryGateway.class));
+        this.projectedListCategoriesUseCase =
+                new ProjectedListCategoriesUseCase(this.context.getBean(CategoryGateway.class));
+        this.categoryRepository = this.context.getBean(CategoryRepository.class);
+        this.aQuery = new CategorySearchQuery(10, this.perPage, "", "name", "asc");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> managedEntityReadPath() {
+        final var pageRequest = PageRequest.of(aQuery.page(), aQuery.perPage(), Sort.by(Direction.ASC, aQuery.sort().getProperty()));
+        final var aPage = this.categoryRepository.findAll(pageRequest);
+        return new Pagination<>(aPage.getNumber(), aPage.getSize(), aPage.getTotalElements(), aPage.toList())
+                .map(CategoryJpaEntity::toAggregate)
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::present);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> aggregateReadPath() {
+        return this.aggregateListCategoriesUseCase.execute(this.aQuery)
+                .map(CategoryApiPresenter::present);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> projectedReadPath() {
+        return this.projectedListCategoriesUseCase.execute(this.aQuery)
+                .map(CategoryApiPresenter::present);
+    }
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int perPage;
+
+    private Category category;
+    private CategoryJpaEntity entity;
+    private CategoryListOutput output;
+    private Pagination<Category> aggregates;
+    private Pagination<CategoryListOutput> outputs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.category = Category.newCategory("Filmes", "A categoria mais assistida");
+        this.entity = CategoryJpaEntity.from(this.category);
+        this.output = CategoryListOutput.from(this.category);
+        final var items = IntStream.range(0, this.perPage)
+                .mapToObj(i -> Category.newCategory("Category %07d".formatted(i), "Description of category " + i))
+                .toList();
+        this.aggregates = new Pagination<>(0, this.perPage, 10_000, items);
+        this.outputs = this.aggregates.map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public CategoryJpaEntity entityFromAggregate() {
+        return CategoryJpaEntity.from(this.category);
+    }
+
+    @Benchmark
+    public Category entityToAggregate() {
+        return this.entity.toAggregate();
+    }
+
+    @Benchmark
+    public CategoryListResponse presentListOutput() {
+        return CategoryApiPresenter.present(this.output);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> mapPageToOutputs() {
+        return this.aggregates.map(CategoryListOutput::from);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListResponse> mapPageToResponses() {
+        return this.outputs.map(CategoryApiPresenter::present);
+    }
+}
@@ -0,0 +1,38 @@
+package com.fullcycle.admin.catalogo.benchmarks;
+
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
+import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategorySerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int perPage;
+
+    private Pagination<CategoryListResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var items = IntStream.range(0, this.perPage)
+                .mapToObj(i -> Category.newCategory("Category %07d".formatted(i), "Description of category " + i))
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::present)
+                .toList();
+        this.page = new Pagination<>(0, this.perPage, 10_000, items);
+    }
+
+    @Benchmark
+    public String writeListPage() {
+        return Json.writeValueAsString(this.page);
+    }
+}
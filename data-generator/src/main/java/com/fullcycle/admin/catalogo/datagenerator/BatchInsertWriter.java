@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+
+public class BatchInsertWriter implements CategoryRowWriter {
+
+    private static final String INSERT = """
+            INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+
+    public BatchInsertWriter(final Connection aConnection, final int batchSize) throws SQLException {
+        this.connection = aConnection;
+        this.connection.setAutoCommit(false);
+        CategoryRowWriter.disableChecks(this.connection);
+        this.statement = this.connection.prepareStatement(INSERT);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void write(final CategoryRow aRow) throws SQLException {
+        this.statement.setBytes(1, CategoryRowWriter.toBinary(aRow.id()));
+        this.statement.setString(2, aRow.name());
+        if (aRow.description() == null) {
+            this.statement.setNull(3, Types.VARCHAR);
+        } else {
+            this.statement.setString(3, aRow.description());
+        }
+        this.statement.setBoolean(4, aRow.active());
+        this.statement.setTimestamp(5, timestamp(aRow.createdAt()));
+        this.statement.setTimestamp(6, timestamp(aRow.updatedAt()));
+        this.statement.setTimestamp(7, timestamp(aRow.deletedAt()));
+        this.statement.addBatch();
+        if (++this.pending == this.batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            this.statement.close();
+        }
+    }
+
+    // Um commit por lote: com rewriteBatchedStatements o driver envia cada lote como um único INSERT multi-row.
+    private void flush() throws SQLException {
+        if (this.pending == 0) {
+            return;
+        }
+        this.statement.executeBatch();
+        this.connection.commit();
+        this.pending = 0;
+    }
+
+    private static Timestamp timestamp(final Instant anInstant) {
+        return anInstant == null ? null : Timestamp.from(anInstant);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.Instant;
+
+public final class CategoryDataGenerator {
+
+    private static final long PROGRESS_INTERVAL = 100_000;
+
+    private CategoryDataGenerator() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var options = GeneratorOptions.from(args);
+        final var factory = new CategoryRowFactory(
+                options.rows(), Instant.now(), options.history(), options.inactiveRatio(), options.seed());
+
+        System.out.printf("Generating %d categories with mode %s...%n", options.rows(), options.mode());
+        final var startedAt = System.nanoTime();
+        try (final var connection = DriverManager.getConnection(options.url(), options.user(), options.password());
+             final var writer = writerOf(options, connection)) {
+            for (long i = 0; i < options.rows(); i++) {
+                writer.write(factory.row(i));
+                if ((i + 1) % PROGRESS_INTERVAL == 0) {
+                    progress(i + 1, startedAt);
+                }
+            }
+        }
+        progress(options.rows(), startedAt);
+    }
+
+    private static CategoryRowWriter writerOf(
+            final GeneratorOptions anOptions,
+            final Connection aConnection
+    ) throws Exception {
+        return switch (anOptions.mode()) {
+            case INSERT -> new BatchInsertWriter(aConnection, anOptions.batchSize());
+            case LOAD_DATA -> new LoadDataWriter(aConnection, anOptions.csv());
+        };
+    }
+
+    private static void progress(final long aRows, final long aStartedAt) {
+        final var elapsed = Duration.ofNanos(System.nanoTime() - aStartedAt);
+        final var rate = aRows / Math.max(0.001, elapsed.toMillis() / 1000.0);
+        System.out.printf("%,d rows in %ds (%,.0f rows/s)%n", aRows, elapsed.toSeconds(), rate);
+    }
+}
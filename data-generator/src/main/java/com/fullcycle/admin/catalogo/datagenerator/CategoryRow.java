@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CategoryRow(
+        UUID id,
+        String name,
+        String description,
+        boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+}
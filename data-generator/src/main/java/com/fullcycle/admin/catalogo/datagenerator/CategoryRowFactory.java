@@ -0,0 +1,138 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.domain.identifier.TimeOrderedIdGenerator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+public class CategoryRowFactory {
+
+    private static final int NAME_MAX_LENGTH = 255;
+    private static final int DESCRIPTION_MAX_LENGTH = 4000;
+    private static final double DESCRIPTION_NULL_RATIO = 0.2;
+    private static final double DESCRIPTION_MEDIAN_LENGTH = 120;
+    private static final double DESCRIPTION_LENGTH_SIGMA = 0.8;
+    private static final double UPDATED_RATIO = 0.3;
+    private static final double YEAR_SUFFIX_RATIO = 0.3;
+    private static final int[] NAME_WORD_WEIGHTS = {35, 35, 20, 10};
+
+    private static final String[] NAME_WORDS = {
+            "Filmes", "Séries", "Documentários", "Animação", "Ação", "Comédia", "Drama", "Terror", "Suspense",
+            "Romance", "Infantil", "Clássicos", "Nacionais", "Internacionais", "Esportes", "Música",
+            "Ficção Científica", "Fantasia", "Aventura", "Policial", "Biografias", "Anime", "Reality Shows",
+            "Curtas", "Independentes", "Premiados", "Lançamentos", "Originais", "Faroeste", "Musicais",
+            "Guerra", "História", "Natureza", "Culinária", "Viagem", "Stand-up", "Novelas", "Mistério"
+    };
+
+    private static final String[] DESCRIPTION_WORDS = {
+            "a", "categoria", "mais", "assistida", "reúne", "títulos", "para", "toda", "família", "com",
+            "produções", "de", "diversos", "países", "e", "épocas", "histórias", "que", "marcaram", "gerações",
+            "seleção", "especial", "dos", "melhores", "lançamentos", "do", "ano", "premiados", "pela", "crítica",
+            "em", "alta", "definição", "legendas", "dublagem", "disponíveis", "no", "catálogo"
+    };
+
+    private final Random random;
+    private final long rows;
+    private final long fromMillis;
+    private final long historyMillis;
+    private final long nowMillis;
+    private final double inactiveRatio;
+    private final IdGenerator idGenerator;
+    private long currentMillis;
+
+    public CategoryRowFactory(
+            final long rows,
+            final Instant aNow,
+            final Duration aHistory,
+            final double inactiveRatio,
+            final long aSeed
+    ) {
+        this.random = new Random(aSeed);
+        this.rows = rows;
+        this.nowMillis = aNow.toEpochMilli();
+        this.historyMillis = aHistory.toMillis();
+        this.fromMillis = this.nowMillis - this.historyMillis;
+        this.inactiveRatio = inactiveRatio;
+        this.idGenerator = new TimeOrderedIdGenerator(() -> this.currentMillis);
+    }
+
+    // As linhas saem em ordem de created_at, com a densidade crescendo linearmente até hoje (o catálogo
+    // cresce com o tempo). O UUIDv7 usa o próprio created_at, então os inserts seguem a ordem do índice clusterizado.
+    public CategoryRow row(final long anIndex) {
+        final var position = Math.sqrt((anIndex + this.random.nextDouble()) / this.rows);
+        final var createdAt = instantOf(this.fromMillis + (long) (this.historyMillis * position));
+        this.currentMillis = createdAt.toEpochMilli();
+        final var id = this.idGenerator.next();
+
+        // Categorias antigas têm mais chance de terem sido desativadas; a média fica em torno de inactiveRatio.
+        final var isActive = this.random.nextDouble() >= Math.min(1.0, 3 * this.inactiveRatio * (1 - position));
+        final Instant updatedAt;
+        final Instant deletedAt;
+        if (!isActive) {
+            deletedAt = between(createdAt);
+            updatedAt = deletedAt;
+        } else {
+            deletedAt = null;
+            updatedAt = this.random.nextDouble() < UPDATED_RATIO ? between(createdAt) : createdAt;
+        }
+        return new CategoryRow(id, name(), description(), isActive, createdAt, updatedAt, deletedAt);
+    }
+
+    private String name() {
+        final var words = weighted(NAME_WORD_WEIGHTS) + 1;
+        final var name = new StringBuilder(NAME_WORDS[this.random.nextInt(NAME_WORDS.length)]);
+        for (int i = 1; i < words; i++) {
+            name.append(' ').append(NAME_WORDS[this.random.nextInt(NAME_WORDS.length)].toLowerCase());
+        }
+        if (this.random.nextDouble() < YEAR_SUFFIX_RATIO) {
+            name.append(' ').append(1950 + this.random.nextInt(75));
+        }
+        return name.length() > NAME_MAX_LENGTH ? name.substring(0, NAME_MAX_LENGTH) : name.toString();
+    }
+
+    // Comprimento log-normal: a maioria das descrições é curta, com uma cauda longa até o limite da coluna.
+    private String description() {
+        if (this.random.nextDouble() < DESCRIPTION_NULL_RATIO) {
+            return null;
+        }
+        final var length = (int) Math.min(DESCRIPTION_MAX_LENGTH, Math.max(10,
+                Math.exp(Math.log(DESCRIPTION_MEDIAN_LENGTH) + DESCRIPTION_LENGTH_SIGMA * this.random.nextGaussian())));
+        final var description = new StringBuilder(length + 16);
+        while (description.length() < length) {
+            if (!description.isEmpty()) {
+                description.append(' ');
+            }
+            description.append(DESCRIPTION_WORDS[this.random.nextInt(DESCRIPTION_WORDS.length)]);
+        }
+        description.setCharAt(0, Character.toUpperCase(description.charAt(0)));
+        return description.length() > DESCRIPTION_MAX_LENGTH
+                ? description.substring(0, DESCRIPTION_MAX_LENGTH)
+                : description.toString();
+    }
+
+    private Instant between(final Instant aStart) {
+        final var startMillis = aStart.toEpochMilli();
+        return instantOf(startMillis + (long) ((this.nowMillis - startMillis) * this.random.nextDouble()));
+    }
+
+    private Instant instantOf(final long anEpochMillis) {
+        return Instant.ofEpochMilli(anEpochMillis).plusNanos(this.random.nextInt(1000) * 1000L);
+    }
+
+    private int weighted(final int[] weights) {
+        var total = 0;
+        for (final var weight : weights) {
+            total += weight;
+        }
+        var ticket = this.random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            ticket -= weights[i];
+            if (ticket < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+public interface CategoryRowWriter extends AutoCloseable {
+
+    void write(CategoryRow aRow) throws Exception;
+
+    @Override
+    void close() throws Exception;
+
+    static byte[] toBinary(final UUID anId) {
+        return ByteBuffer.allocate(16)
+                .putLong(anId.getMostSignificantBits())
+                .putLong(anId.getLeastSignificantBits())
+                .array();
+    }
+
+    static void disableChecks(final Connection aConnection) throws SQLException {
+        try (final var statement = aConnection.createStatement()) {
+            statement.execute("SET unique_checks = 0");
+            statement.execute("SET foreign_key_checks = 0");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public record GeneratorOptions(
+        long rows,
+        String url,
+        String user,
+        String password,
+        Mode mode,
+        int batchSize,
+        long seed,
+        double inactiveRatio,
+        Duration history,
+        Path csv
+) {
+
+    private static final String PREFIX = "generator.";
+
+    public GeneratorOptions {
+        if (rows < 1) {
+            throw new IllegalArgumentException("'rows' should be positive but was %d".formatted(rows));
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' should be positive but was %d".formatted(batchSize));
+        }
+        if (inactiveRatio < 0 || inactiveRatio > 1) {
+            throw new IllegalArgumentException(
+                    "'inactiveRatio' should be between 0 and 1 but was %s".formatted(inactiveRatio));
+        }
+        if (history.isNegative() || history.isZero()) {
+            throw new IllegalArgumentException("'history' should be positive but was %s".formatted(history));
+        }
+    }
+
+    public static GeneratorOptions from(final String[] args) {
+        final var values = new HashMap<String, String>();
+        for (final var arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("arguments should look like '--rows=1000000' but was '%s'".formatted(arg));
+            }
+            final var separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new GeneratorOptions(
+                Long.parseLong(value(values, "rows", "1000000")),
+                value(values, "url", "jdbc:mysql://localhost:33306/adm_videos?serverTimezone=UTC&rewriteBatchedStatements=true&allowLoadLocalInfile=true"),
+                value(values, "user", "root"),
+                value(values, "password", "123456"),
+                Mode.valueOf(value(values, "mode", "insert").replace('-', '_').toUpperCase(Locale.ROOT)),
+                Integer.parseInt(value(values, "batchSize", "5000")),
+                Long.parseLong(value(values, "seed", "42")),
+                Double.parseDouble(value(values, "inactiveRatio", "0.15")),
+                Duration.parse(value(values, "history", "P1825D")),
+                Path.of(value(values, "csv", "build/generator/categories.csv"))
+        );
+    }
+
+    private static String value(final Map<String, String> args, final String aName, final String aDefault) {
+        return args.getOrDefault(aName, System.getProperty(PREFIX + aName, aDefault));
+    }
+
+    public enum Mode {
+        INSERT,
+        LOAD_DATA
+    }
+}
@@ -0,0 +1,78 @@
+package com.fullcycle.admin.catalogo.datagenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+
+public class LoadDataWriter implements CategoryRowWriter {
+
+    private static final String NULL = "\\N";
+    private static final DateTimeFormatter DATETIME =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS").withZone(ZoneOffset.UTC);
+
+    // O id vai em hexadecimal no CSV e é convertido para BINARY(16) pelo próprio MySQL durante a carga.
+    private static final String LOAD_DATA = """
+            LOAD DATA LOCAL INFILE '%s' INTO TABLE category
+            CHARACTER SET utf8mb4
+            FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' ESCAPED BY '\\\\'
+            LINES TERMINATED BY '\\n'
+            (@id, name, description, active, created_at, updated_at, deleted_at)
+            SET id = UNHEX(@id)""";
+
+    private final Connection connection;
+    private final Path csv;
+    private final BufferedWriter out;
+
+    public LoadDataWriter(final Connection aConnection, final Path aCsv) throws IOException {
+        this.connection = aConnection;
+        this.csv = aCsv.toAbsolutePath();
+        Files.createDirectories(this.csv.getParent());
+        this.out = Files.newBufferedWriter(this.csv, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(final CategoryRow aRow) throws IOException {
+        this.out.write(HexFormat.of().formatHex(CategoryRowWriter.toBinary(aRow.id())));
+        this.out.write(',');
+        this.out.write(quote(aRow.name()));
+        this.out.write(',');
+        this.out.write(aRow.description() == null ? NULL : quote(aRow.description()));
+        this.out.write(',');
+        this.out.write(aRow.active() ? '1' : '0');
+        this.out.write(',');
+        this.out.write(datetime(aRow.createdAt()));
+        this.out.write(',');
+        this.out.write(datetime(aRow.updatedAt()));
+        this.out.write(',');
+        this.out.write(aRow.deletedAt() == null ? NULL : datetime(aRow.deletedAt()));
+        this.out.write('\n');
+    }
+
+    @Override
+    public void close() throws IOException, SQLException {
+        this.out.close();
+        System.out.printf("Loading %s into the category table...%n", this.csv);
+        this.connection.setAutoCommit(false);
+        CategoryRowWriter.disableChecks(this.connection);
+        try (final var statement = this.connection.createStatement()) {
+            statement.execute(LOAD_DATA.formatted(this.csv.toString().replace("\\", "/")));
+        }
+        this.connection.commit();
+    }
+
+    private static String quote(final String aValue) {
+        return '"' + aValue.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    private static String datetime(final Instant anInstant) {
+        return DATETIME.format(anInstant);
+    }
+}
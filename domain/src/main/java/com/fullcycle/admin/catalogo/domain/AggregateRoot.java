@@ -1,8 +1,34 @@
 package com.fullcycle.admin.catalogo.domain;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private List<DomainEvent> domainEvents = new ArrayList<>();
+
     protected AggregateRoot(final ID id) {
         super(id);
     }
+
+    protected void registerEvent(final DomainEvent anEvent) {
+        this.domainEvents.add(Objects.requireNonNull(anEvent, "'event' should not be null"));
+    }
+
+    public List<DomainEvent> getDomainEvents() {
+        return Collections.unmodifiableList(domainEvents);
+    }
+
+    public void clearDomainEvents() {
+        this.domainEvents.clear();
+    }
+
+    @Override
+    protected Object clone() throws CloneNotSupportedException {
+        final var aClone = (AggregateRoot<?>) super.clone();
+        aClone.domainEvents = new ArrayList<>(this.domainEvents);
+        return aClone;
+    }
 }
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain;
+
+import java.time.Instant;
+
+public interface DomainEvent {
+
+    String aggregateId();
+
+    String type();
+
+    Instant occurredOn();
+}
@@ -47,10 +47,17 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public static Category newCategory(
             final String aName,
             final String aDescription) {
-        final CategoryID anId = CategoryID.unique();
+        return newCategory(CategoryID.unique(), aName, aDescription);
+    }
+
+    public static Category newCategory(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription) {
         final var now = Instant.now();
         final var isActive = true;
         final var category = new Category(anId, aName, aDescription, isActive, now, now);
+        category.registerEvent(CategoryEvent.created(anId, now));
         notification = Notification.create();
         category.validate(notification);
         return category;
@@ -89,29 +96,67 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public Category deactivate() {
-        if (getDeletedAt() == null) {
-            this.deletedAt = Instant.now();
-        }
-        this.updatedAt = Instant.now();
-        this.active = false;
-//        this.validate(new ThrowsValidationHandler());
-        this.validate(notification);
-        return this;
+        return apply(deactivationOf(id, Instant.now()));
     }
 
     public Category activate() {
-        this.deletedAt = null;
-        this.updatedAt = Instant.now();
-        this.active = true;
-//        this.validate(new ThrowsValidationHandler());
-        this.validate(notification);
-        return this;
+        return apply(activationOf(id, Instant.now()));
     }
 
     public Category update(final String aName, final String aDescription) {
-        this.updatedAt = Instant.now();
-        this.name = aName;
-        this.description = aDescription;
+        return apply(updateOf(id, aName, aDescription, Instant.now()));
+    }
+
+    // As mesmas regras valem para o agregado carregado e para a alteração aplicada direto no banco.
+    public static CategoryChange updateOf(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription,
+            final Instant anUpdatedAt
+    ) {
+        return new CategoryChange(
+                anId,
+                new CategoryChange.Details(aName, aDescription),
+                null,
+                anUpdatedAt,
+                CategoryEvent.updated(anId, anUpdatedAt)
+        );
+    }
+
+    public static CategoryChange activationOf(final CategoryID anId, final Instant anUpdatedAt) {
+        return new CategoryChange(
+                anId,
+                null,
+                new CategoryChange.Status(true, null, false),
+                anUpdatedAt,
+                CategoryEvent.activated(anId, anUpdatedAt)
+        );
+    }
+
+    // Desativar de novo não muda a data em que a categoria foi desativada pela primeira vez.
+    public static CategoryChange deactivationOf(final CategoryID anId, final Instant anUpdatedAt) {
+        return new CategoryChange(
+                anId,
+                null,
+                new CategoryChange.Status(false, anUpdatedAt, true),
+                anUpdatedAt,
+                CategoryEvent.deactivated(anId, anUpdatedAt)
+        );
+    }
+
+    private Category apply(final CategoryChange aChange) {
+        if (aChange.changesDetails()) {
+            this.name = aChange.details().name();
+            this.description = aChange.details().description();
+        } else {
+            final var aStatus = aChange.status();
+            this.active = aStatus.active();
+            if (!aStatus.keepsDeletedAt() || this.deletedAt == null) {
+                this.deletedAt = aStatus.deletedAt();
+            }
+        }
+        this.updatedAt = aChange.updatedAt();
+        registerEvent(aChange.event());
 //        this.validate(new ThrowsValidationHandler());
         this.validate(notification);
         return this;
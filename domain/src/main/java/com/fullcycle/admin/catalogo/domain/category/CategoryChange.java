@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Estado alvo de uma alteração montada pelo agregado: o gateway só aplica os campos e grava o evento,
+// sem precisar carregar a categoria.
+public record CategoryChange(
+        CategoryID id,
+        Details details,
+        Status status,
+        Instant updatedAt,
+        CategoryEvent event
+) {
+
+    public CategoryChange {
+        Objects.requireNonNull(id, "'id' should not be null");
+        Objects.requireNonNull(updatedAt, "'updatedAt' should not be null");
+        Objects.requireNonNull(event, "'event' should not be null");
+        if ((details == null) == (status == null)) {
+            throw new IllegalArgumentException("a change should carry either 'details' or 'status'");
+        }
+    }
+
+    public boolean changesDetails() {
+        return details != null;
+    }
+
+    public record Details(String name, String description) {
+    }
+
+    // keepsDeletedAt: a data de remoção já gravada prevalece sobre a desta alteração.
+    public record Status(boolean active, Instant deletedAt, boolean keepsDeletedAt) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.time.Instant;
+
+public record CategoryChangesQuery(
+        Instant since,
+        String cursor,
+        int limit
+) {
+
+    public static final int MAX_LIMIT = 1000;
+
+    public CategoryChangesQuery {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw DomainException.with(new Error("'limit' must be between 1 and %d".formatted(MAX_LIMIT)));
+        }
+    }
+
+    public boolean isCursorInformed() {
+        return cursor != null && !cursor.isBlank();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.DomainEvent;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public record CategoryEvent(
+        String aggregateId,
+        String type,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public static final String CREATED = "category.created";
+    public static final String UPDATED = "category.updated";
+    public static final String ACTIVATED = "category.activated";
+    public static final String DEACTIVATED = "category.deactivated";
+    public static final String DELETED = "category.deleted";
+
+    public CategoryEvent {
+        Objects.requireNonNull(aggregateId, "'aggregateId' should not be null");
+        Objects.requireNonNull(type, "'type' should not be null");
+        Objects.requireNonNull(occurredOn, "'occurredOn' should not be null");
+    }
+
+    public static CategoryEvent created(final CategoryID anId, final Instant anOccurredOn) {
+        return new CategoryEvent(anId.getValue(), CREATED, anOccurredOn);
+    }
+
+    public static CategoryEvent updated(final CategoryID anId, final Instant anOccurredOn) {
+        return new CategoryEvent(anId.getValue(), UPDATED, anOccurredOn);
+    }
+
+    public static CategoryEvent activated(final CategoryID anId, final Instant anOccurredOn) {
+        return new CategoryEvent(anId.getValue(), ACTIVATED, anOccurredOn);
+    }
+
+    public static CategoryEvent deactivated(final CategoryID anId, final Instant anOccurredOn) {
+        return new CategoryEvent(anId.getValue(), DEACTIVATED, anOccurredOn);
+    }
+
+    public static CategoryEvent deleted(final CategoryID anId, final Instant anOccurredOn) {
+        return new CategoryEvent(anId.getValue(), DELETED, anOccurredOn);
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Item do feed de alterações: a categoria como está agora ou a marca de que ela foi removida em changedAt.
+public record CategoryFeedItem(
+        CategoryID id,
+        Instant changedAt,
+        CategorySummary category
+) {
+
+    public CategoryFeedItem {
+        Objects.requireNonNull(id, "'id' should not be null");
+        Objects.requireNonNull(changedAt, "'changedAt' should not be null");
+    }
+
+    public static CategoryFeedItem changed(final CategorySummary aCategory) {
+        return new CategoryFeedItem(aCategory.id(), aCategory.updatedAt(), aCategory);
+    }
+
+    public static CategoryFeedItem removed(final CategoryID anId, final Instant aRemovedAt) {
+        return new CategoryFeedItem(anId, aRemovedAt, null);
+    }
+
+    public boolean isRemoved() {
+        return category == null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+public enum CategoryFilter {
+
+    ALL,
+    ACTIVE,
+    INACTIVE;
+
+    public static CategoryFilter from(final Boolean isActive) {
+        if (isActive == null) {
+            return ALL;
+        }
+        return isActive ? ACTIVE : INACTIVE;
+    }
+}
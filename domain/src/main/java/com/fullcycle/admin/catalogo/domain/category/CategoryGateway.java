@@ -2,13 +2,22 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category aCategory);
+    List<Category> createAll(List<Category> aCategories);
     void deleteById(CategoryID anId);
+    void deleteAllById(List<CategoryID> anIds);
     Optional<Category> findById(CategoryID anId);
     Category update(Category aCategory);
+    boolean applyChange(CategoryChange aChange);
     Pagination<Category> findAll(CategorySearchQuery aQuery);
+    Pagination<CategorySummary> findSummaries(CategorySearchQuery aQuery);
+    Pagination<CategoryFeedItem> findChanges(CategoryChangesQuery aQuery);
+    long forEachUpdatedSince(Instant aSince, Consumer<Category> aConsumer);
 }
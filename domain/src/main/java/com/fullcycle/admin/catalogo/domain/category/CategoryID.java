@@ -2,6 +2,7 @@ package com.fullcycle.admin.catalogo.domain.category;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 
 import java.util.List;
@@ -20,7 +21,12 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID().toString().toLowerCase());
+        return CategoryID.from(UUID.randomUUID());
+    }
+
+    public static CategoryID unique(final IdGenerator aGenerator) {
+        Objects.requireNonNull(aGenerator, "'generator' should not be null");
+        return CategoryID.from(aGenerator.next());
     }
 
     public static CategoryID from(final String anId) {
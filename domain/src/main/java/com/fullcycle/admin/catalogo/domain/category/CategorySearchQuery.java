@@ -1,10 +1,82 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+
+import java.util.Objects;
+
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
-        String sort,
-        String direction
+        CategorySort sort,
+        SortDirection direction,
+        String after,
+        CountMode count,
+        CategoryFilter filter
 ) {
+
+    public CategorySearchQuery {
+        Objects.requireNonNull(sort, "'sort' should not be null");
+        Objects.requireNonNull(direction, "'direction' should not be null");
+        Objects.requireNonNull(filter, "'filter' should not be null");
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null, null, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, null, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final CountMode count
+    ) {
+        this(page, perPage, terms, sort, direction, after, count, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String after,
+            final CountMode count,
+            final Boolean active
+    ) {
+        this(page, perPage, terms, CategorySort.from(sort), SortDirection.from(direction), after, count,
+                CategoryFilter.from(active));
+    }
+
+    public boolean isAfterInformed() {
+        return after != null && !after.isBlank();
+    }
+
+    public CountMode countMode() {
+        if (count != null) {
+            return count;
+        }
+        return isAfterInformed() ? CountMode.NONE : CountMode.EXACT;
+    }
 }
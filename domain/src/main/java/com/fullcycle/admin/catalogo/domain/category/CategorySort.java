@@ -0,0 +1,35 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CategorySort {
+
+    NAME("name"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    RELEVANCE("relevance");
+
+    private final String property;
+
+    CategorySort(final String property) {
+        this.property = property;
+    }
+
+    public static CategorySort from(final String aProperty) {
+        for (final var sort : values()) {
+            if (sort.property.equals(aProperty)) {
+                return sort;
+            }
+        }
+        throw DomainException.with(new Error("'sort' must be one of %s".formatted(Arrays.stream(values())
+                .map(CategorySort::getProperty)
+                .toList())));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import java.time.Instant;
+import java.util.Objects;
+
+public record CategorySummary(
+        CategoryID id,
+        String name,
+        String description,
+        boolean isActive,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public CategorySummary {
+        Objects.requireNonNull(id, "'id' should not be null");
+    }
+}
@@ -11,12 +11,15 @@ public class CategoryValidator extends Validator {
     public static final int NAME_MIN_LENGTH = 3;
     public static final int NAME_MAX_LENGTH = 255;
 
-    private final Category category;
+    private final String name;
 
     public CategoryValidator(final Category category, final ValidationHandler handler) {
+        this(Objects.requireNonNull(category).getName(), handler);
+    }
+
+    public CategoryValidator(final String aName, final ValidationHandler handler) {
         super(handler);
-        Objects.requireNonNull(category);
-        this.category = category;
+        this.name = aName;
     }
 
     @Override
@@ -25,7 +28,6 @@ public class CategoryValidator extends Validator {
     }
 
     private void checkNameConstraints() {
-        final var name = this.category.getName();
         if (name == null) {
             this.validationHandler().append(new Error("'name' should not be null"));
             return;
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.exceptions;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class OverloadedException extends NoStacktraceException {
+
+    private final Duration retryAfter;
+
+    public OverloadedException(final String aMessage, final Duration aRetryAfter) {
+        super(aMessage);
+        this.retryAfter = Objects.requireNonNull(aRetryAfter);
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.identifier;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+
+    UUID next();
+
+    static IdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    static IdGenerator timeOrdered() {
+        return new TimeOrderedIdGenerator();
+    }
+}
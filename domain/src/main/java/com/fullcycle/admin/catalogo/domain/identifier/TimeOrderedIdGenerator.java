@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.domain.identifier;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    public TimeOrderedIdGenerator(final LongSupplier aClock) {
+        this.clock = Objects.requireNonNull(aClock);
+    }
+
+    @Override
+    public UUID next() {
+        final var timestampAndCounter = nextTimestampAndCounter();
+        final var timestamp = timestampAndCounter >>> COUNTER_BITS;
+        final var counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        final var mostSigBits = (timestamp << 16) | VERSION | counter;
+        final var leastSigBits = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // UUIDv7: 48 bits de epoch em ms + contador de 12 bits no rand_a. Quando o contador estoura dentro do
+    // mesmo milissegundo, o timestamp avança 1 ms, mantendo os IDs estritamente crescentes entre threads.
+    private long nextTimestampAndCounter() {
+        final var now = this.clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            final var last = this.lastTimestampAndCounter.get();
+            final var next = now > last ? now : last + 1;
+            if (this.lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+public enum CountMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode from(final String aValue) {
+        if (aValue == null || aValue.isBlank()) {
+            return null;
+        }
+        for (final var mode : values()) {
+            if (mode.name().equalsIgnoreCase(aValue.trim())) {
+                return mode;
+            }
+        }
+        throw DomainException.with(new Error("'count' must be one of exact, estimated or none"));
+    }
+}
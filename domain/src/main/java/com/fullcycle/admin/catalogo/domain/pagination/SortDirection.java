@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+public enum SortDirection {
+
+    ASC,
+    DESC;
+
+    public static SortDirection from(final String aValue) {
+        if (aValue != null) {
+            for (final var direction : values()) {
+                if (direction.name().equalsIgnoreCase(aValue.trim())) {
+                    return direction;
+                }
+            }
+        }
+        throw DomainException.with(new Error("'direction' must be one of [asc, desc]"));
+    }
+
+    public boolean isAscending() {
+        return this == ASC;
+    }
+
+    public String getValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CategoryChangesQueryTest {
+
+    @Test
+    void Given_a_blank_cursor_When_call_new_Then_should_not_be_informed() {
+        // when
+        final var actualQuery = new CategoryChangesQuery(null, " ", CategoryChangesQuery.MAX_LIMIT);
+        // then
+        assertFalse(actualQuery.isCursorInformed());
+    }
+
+    @Test
+    void Given_a_zero_limit_When_call_new_Then_should_throw_domain_exception() {
+        // given
+        final var expectedErrorMessage = "'limit' must be between 1 and 1000";
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> new CategoryChangesQuery(null, null, 0));
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void Given_a_limit_above_the_maximum_When_call_new_Then_should_throw_domain_exception() {
+        // given
+        final var expectedErrorMessage = "'limit' must be between 1 and 1000";
+        // when
+        final var actualException = assertThrows(DomainException.class,
+                () -> new CategoryChangesQuery(null, null, CategoryChangesQuery.MAX_LIMIT + 1));
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
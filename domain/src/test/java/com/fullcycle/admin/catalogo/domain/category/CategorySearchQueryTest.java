@@ -0,0 +1,62 @@
+package com.fullcycle.admin.catalogo.domain.category;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CategorySearchQueryTest {
+
+    @Nested
+    class NewCategorySearchQuery {
+
+        @Test
+        void Given_whitelisted_sort_and_direction_When_call_new_Then_should_resolve_the_plan_keys() {
+            // given
+            final var expectedSort = CategorySort.CREATED_AT;
+            final var expectedDirection = SortDirection.DESC;
+            final var expectedFilter = CategoryFilter.INACTIVE;
+            // when
+            final var actualQuery = new CategorySearchQuery(0, 10, "", "createdAt", " DESC ", null, null, false);
+            // then
+            assertEquals(expectedSort, actualQuery.sort());
+            assertEquals(expectedDirection, actualQuery.direction());
+            assertEquals(expectedFilter, actualQuery.filter());
+        }
+
+        @Test
+        void Given_no_active_filter_When_call_new_Then_should_list_all_categories() {
+            // when
+            final var actualQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+            // then
+            assertEquals(CategoryFilter.ALL, actualQuery.filter());
+        }
+
+        @Test
+        void Given_a_sort_out_of_the_whitelist_When_call_new_Then_should_throw_domain_exception() {
+            // given
+            final var expectedErrorMessage = "'sort' must be one of [name, createdAt, updatedAt, relevance]";
+            // when
+            final var actualException = assertThrows(DomainException.class,
+                    () -> new CategorySearchQuery(0, 10, "", "description", "asc"));
+            // then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+
+        @Test
+        void Given_an_invalid_direction_When_call_new_Then_should_throw_domain_exception() {
+            // given
+            final var expectedErrorMessage = "'direction' must be one of [asc, desc]";
+            // when
+            final var actualException = assertThrows(DomainException.class,
+                    () -> new CategorySearchQuery(0, 10, "", "name", "sideways"));
+            // then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+    }
+}
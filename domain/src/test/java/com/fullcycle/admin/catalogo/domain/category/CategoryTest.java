@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.domain.category;
 
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -9,6 +10,8 @@ import org.junit.jupiter.api.function.Executable;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,6 +44,18 @@ class CategoryTest {
 
         }
 
+        @Test
+        void Given_an_id_generator_When_call_newCategory_Then_should_instantiate_a_category_with_the_generated_id() {
+            // given
+            final var expectedId = UUID.fromString("018c2b5e-7a00-7000-8000-000000000001");
+            final IdGenerator aGenerator = () -> expectedId;
+            // when
+            final var actualCategory = Category.newCategory(
+                    CategoryID.unique(aGenerator), "Filmes", "A categoria mais assistida");
+            // then
+            assertEquals(CategoryID.from(expectedId), actualCategory.getId());
+        }
+
         @Test
         void Given_a_valid_param_When_call_newCategory_Then_should_instantiate_a_category_with_name() {
             // given
@@ -577,4 +592,121 @@ class CategoryTest {
             assertNull(actualCategory.getDeletedAt());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class DomainEvents {
+
+        @Test
+        void Given_a_valid_param_When_call_newCategory_Then_should_register_a_created_event() {
+            // when
+            final var actualCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            // then
+            assertEquals(
+                    List.of(CategoryEvent.created(actualCategory.getId(), actualCategory.getCreatedAt())),
+                    actualCategory.getDomainEvents());
+        }
+
+        @Test
+        void Given_a_valid_category_When_call_update_deactivate_and_activate_Then_should_register_one_event_each() {
+            // given
+            final var aCategory = Category.newCategory("Film", "A categoria");
+            // when
+            aCategory.update("Filmes", null).deactivate().activate();
+            // then
+            assertEquals(
+                    List.of(CategoryEvent.CREATED, CategoryEvent.UPDATED, CategoryEvent.DEACTIVATED, CategoryEvent.ACTIVATED),
+                    aCategory.getDomainEvents().stream().map(event -> event.type()).toList());
+            assertEquals(aCategory.getUpdatedAt(), aCategory.getDomainEvents().get(3).occurredOn());
+        }
+
+        @Test
+        void Given_a_stored_category_When_call_with_Then_should_not_register_events() {
+            // given
+            final var aCategory = Category.newCategory("Filmes", null);
+            // when
+            final var actualCategory = Category.with(aCategory);
+            // then
+            assertTrue(actualCategory.getDomainEvents().isEmpty());
+        }
+
+        @Test
+        void Given_a_cloned_category_When_call_update_on_the_clone_Then_should_not_change_the_original_events() {
+            // given
+            final var aCategory = Category.newCategory("Film", null);
+            // when
+            final var actualClone = aCategory.clone().update("Filmes", null);
+            aCategory.clearDomainEvents();
+            // then
+            assertTrue(aCategory.getDomainEvents().isEmpty());
+            assertEquals(2, actualClone.getDomainEvents().size());
+        }
+    }
+
+    @Nested
+    class Changes {
+
+        @Test
+        void Given_a_name_and_description_When_call_updateOf_Then_should_carry_the_details_and_an_updated_event() {
+            // given
+            final var anId = CategoryID.unique();
+            final var anUpdatedAt = Instant.now();
+            // when
+            final var actualChange = Category.updateOf(anId, "Filmes", null, anUpdatedAt);
+            // then
+            assertEquals(new CategoryChange.Details("Filmes", null), actualChange.details());
+            assertNull(actualChange.status());
+            assertEquals(anUpdatedAt, actualChange.updatedAt());
+            assertEquals(CategoryEvent.updated(anId, anUpdatedAt), actualChange.event());
+        }
+
+        @Test
+        void Given_an_id_When_call_activationOf_Then_should_clear_deletedAt_and_carry_an_activated_event() {
+            // given
+            final var anId = CategoryID.unique();
+            final var anUpdatedAt = Instant.now();
+            // when
+            final var actualChange = Category.activationOf(anId, anUpdatedAt);
+            // then
+            assertEquals(new CategoryChange.Status(true, null, false), actualChange.status());
+            assertEquals(CategoryEvent.activated(anId, anUpdatedAt), actualChange.event());
+        }
+
+        @Test
+        void Given_an_id_When_call_deactivationOf_Then_should_keep_an_existing_deletedAt_and_carry_a_deactivated_event() {
+            // given
+            final var anId = CategoryID.unique();
+            final var anUpdatedAt = Instant.now();
+            // when
+            final var actualChange = Category.deactivationOf(anId, anUpdatedAt);
+            // then
+            assertEquals(new CategoryChange.Status(false, anUpdatedAt, true), actualChange.status());
+            assertEquals(CategoryEvent.deactivated(anId, anUpdatedAt), actualChange.event());
+        }
+
+        @Test
+        void Given_an_inactive_category_When_call_deactivate_again_Then_should_keep_the_first_deletedAt() {
+            // given
+            final var aCategory = Category.newCategory("Filmes", null).deactivate();
+            final var expectedDeletedAt = aCategory.getDeletedAt();
+            // when
+            final var actualCategory = aCategory.deactivate();
+            // then
+            assertEquals(expectedDeletedAt, actualCategory.getDeletedAt());
+        }
+
+        @Test
+        void Given_details_and_status_When_create_a_change_Then_should_throw_illegal_argument() {
+            // given
+            final var anId = CategoryID.unique();
+            final var anUpdatedAt = Instant.now();
+            final Executable invalidChange = () -> new CategoryChange(
+                    anId,
+                    new CategoryChange.Details("Filmes", null),
+                    new CategoryChange.Status(true, null, false),
+                    anUpdatedAt,
+                    CategoryEvent.updated(anId, anUpdatedAt));
+            // then
+            assertThrows(IllegalArgumentException.class, invalidChange);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.fullcycle.admin.catalogo.domain.identifier;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TimeOrderedIdGeneratorTest {
+
+    @Nested
+    class Next {
+
+        @Test
+        void Given_a_generator_When_call_next_Then_should_return_a_version_7_uuid() {
+            // given
+            final var expectedTimestamp = 1_700_000_000_000L;
+            final var aGenerator = new TimeOrderedIdGenerator(() -> expectedTimestamp);
+            // when
+            final var actualId = aGenerator.next();
+            // then
+            assertEquals(7, actualId.version());
+            assertEquals(2, actualId.variant());
+            assertEquals(expectedTimestamp, actualId.getMostSignificantBits() >>> 16);
+        }
+
+        @Test
+        void Given_a_stopped_clock_When_call_next_many_times_Then_should_return_increasing_ids() {
+            // given
+            final var aGenerator = new TimeOrderedIdGenerator(() -> 1_700_000_000_000L);
+            // when
+            final var actualIds = IntStream.range(0, 10_000)
+                    .mapToObj(i -> aGenerator.next().toString())
+                    .toList();
+            // then
+            final var expectedIds = new ArrayList<>(actualIds);
+            Collections.sort(expectedIds);
+            assertEquals(expectedIds, actualIds);
+        }
+
+        @Test
+        void Given_a_clock_going_backwards_When_call_next_Then_should_keep_increasing() {
+            // given
+            final var timestamps = new long[]{1_700_000_000_001L, 1_700_000_000_000L};
+            final var calls = new int[]{0};
+            final var aGenerator = new TimeOrderedIdGenerator(() -> timestamps[Math.min(calls[0]++, 1)]);
+            // when
+            final var firstId = aGenerator.next();
+            final var secondId = aGenerator.next();
+            // then
+            assertTrue(firstId.toString().compareTo(secondId.toString()) < 0);
+        }
+
+        @Test
+        void Given_concurrent_callers_When_call_next_Then_should_never_repeat_an_id()
+                throws InterruptedException, ExecutionException {
+            // given
+            final var aGenerator = new TimeOrderedIdGenerator();
+            final var threads = 8;
+            final var idsPerThread = 10_000;
+            final Callable<List<UUID>> generate = () -> IntStream.range(0, idsPerThread)
+                    .mapToObj(i -> aGenerator.next())
+                    .toList();
+            // when
+            final var actualIds = new HashSet<UUID>();
+            final var executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (final Future<List<UUID>> aFuture : executor.invokeAll(Collections.nCopies(threads, generate))) {
+                    actualIds.addAll(aFuture.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            // then
+            assertEquals(threads * idsPerThread, actualIds.size());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.GetCategoryByIdResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -9,10 +10,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -30,6 +36,20 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> create(@RequestBody final CreateCategoryRequest anInput);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every category was created successfully"),
+            @ApiResponse(responseCode = "207", description = "Some categories were rejected; see the per-item results"),
+            @ApiResponse(responseCode = "422", description = "The batch could not be persisted"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> createBatch(@RequestBody final List<CreateCategoryRequest> anInput);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
@@ -42,7 +62,47 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "after", required = false) final String after,
+            @RequestParam(name = "count", required = false) final String count,
+            @RequestParam(name = "active", required = false) final Boolean active
+    );
+
+    @GetMapping(
+            value = "changes",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "List the categories changed since an instant, ordered by update time",
+            description = "Deactivated categories are listed. A deleted category is listed once with 'is_removed' "
+                    + "set, carrying only its id and the removal instant in 'updated_at' and 'deleted_at'."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes listed successfully"),
+            @ApiResponse(responseCode = "400", description = "An invalid 'since' was received"),
+            @ApiResponse(responseCode = "422", description = "An invalid cursor or limit was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    Pagination<CategoryChangeResponse> changes(
+            @RequestParam(name = "since", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant since,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "limit", required = false, defaultValue = "100") final int limit
+    );
+
+    @GetMapping(
+            value = "export",
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Export every category as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "An invalid 'since' was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "since", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant since
     );
 
     @GetMapping(
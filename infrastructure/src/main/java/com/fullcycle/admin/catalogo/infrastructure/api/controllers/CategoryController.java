@@ -1,33 +1,51 @@
 package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.GetCategoryByIdResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -35,34 +53,46 @@ import java.util.function.Function;
 public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final BatchCreateCategoryUseCase batchCreateCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
     private final ActivateCategoryUseCase activateCategoryUseCase;
     private final DeactivateCategoryUseCase deactivateCategoryUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ListCategoryChangesUseCase listCategoryChangesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
+            final BatchCreateCategoryUseCase batchCreateCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
             final ListCategoriesUseCase listCategoriesUseCase,
             final ActivateCategoryUseCase activateCategoryUseCase,
-            final DeactivateCategoryUseCase deactivateCategoryUseCase) {
+            final DeactivateCategoryUseCase deactivateCategoryUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final ListCategoryChangesUseCase listCategoryChangesUseCase) {
         Objects.requireNonNull(createCategoryUseCase);
+        Objects.requireNonNull(batchCreateCategoryUseCase);
         Objects.requireNonNull(getCategoryByIdUseCase);
         Objects.requireNonNull(updateCategoryUseCase);
         Objects.requireNonNull(listCategoriesUseCase);
         Objects.requireNonNull(activateCategoryUseCase);
         Objects.requireNonNull(deactivateCategoryUseCase);
+        Objects.requireNonNull(exportCategoriesUseCase);
+        Objects.requireNonNull(listCategoryChangesUseCase);
         this.createCategoryUseCase = createCategoryUseCase;
+        this.batchCreateCategoryUseCase = batchCreateCategoryUseCase;
         this.getCategoryByIdUseCase = getCategoryByIdUseCase;
         this.updateCategoryUseCase = updateCategoryUseCase;
         this.deleteCategoryUseCase = deleteCategoryUseCase;
         this.listCategoriesUseCase = listCategoriesUseCase;
         this.activateCategoryUseCase = activateCategoryUseCase;
         this.deactivateCategoryUseCase = deactivateCategoryUseCase;
+        this.exportCategoriesUseCase = exportCategoriesUseCase;
+        this.listCategoryChangesUseCase = listCategoryChangesUseCase;
     }
 
     @Override
@@ -77,18 +107,54 @@ public class CategoryController implements CategoryAPI {
                 .fold(onError(), onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> createBatch(final List<CreateCategoryRequest> anInput) {
+        final var aBatchCreateCategoryCommand = BatchCreateCategoryCommand.with(anInput.stream()
+                .map(anItem -> CreateCategoryCommand.with(anItem.name(), anItem.description()))
+                .toList());
+        final Function<BatchCreateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.status(output.isAllCreated() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                        .body(output);
+        return this.batchCreateCategoryUseCase.execute(aBatchCreateCategoryCommand)
+                .fold(onError(), onSuccess);
+    }
+
     @Override
     public Pagination<CategoryListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
-        final var aQuery = new CategorySearchQuery(page, perPage, search, sort, direction);
+            final String direction,
+            final String after,
+            final String count,
+            final Boolean active) {
+        final var aQuery = new CategorySearchQuery(
+                page, perPage, search, sort, direction, after, CountMode.from(count), active);
         return listCategoriesUseCase.execute(aQuery)
                     .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public Pagination<CategoryChangeResponse> changes(final Instant since, final String cursor, final int limit) {
+        return this.listCategoryChangesUseCase.execute(new CategoryChangesQuery(since, cursor, limit))
+                .map(CategoryApiPresenter::present);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final Instant since) {
+        final StreamingResponseBody body = outputStream -> {
+            try (final var generator = Json.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                this.exportCategoriesUseCase.execute(ExportCategoriesCommand.with(since, output ->
+                        writeLine(generator, CategoryApiPresenter.present(output))));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @Override
     public GetCategoryByIdResponse getById(final String anId) {
         final var output = this.getCategoryByIdUseCase.execute(anId);
@@ -133,4 +199,13 @@ public class CategoryController implements CategoryAPI {
         return notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
     }
+
+    private static void writeLine(final JsonGenerator generator, final Object aValue) {
+        try {
+            generator.writeObject(aValue);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
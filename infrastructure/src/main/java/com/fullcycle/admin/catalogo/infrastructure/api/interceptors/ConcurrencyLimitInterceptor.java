@@ -0,0 +1,76 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.interceptors;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.AdaptiveConcurrencyLimit;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT = "categories.api.concurrency.limit";
+    public static final String IN_FLIGHT = "categories.api.concurrency.in.flight";
+    public static final String REJECTED_REQUESTS = "categories.api.concurrency.rejected.requests";
+
+    private static final String PERMIT = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    private final Map<EndpointGroup, AdaptiveConcurrencyLimit> limits;
+
+    public ConcurrencyLimitInterceptor(final Map<EndpointGroup, AdaptiveConcurrencyLimit> limits) {
+        Objects.requireNonNull(limits);
+        for (final var group : EndpointGroup.values()) {
+            if (!limits.containsKey(group)) {
+                throw new IllegalArgumentException("missing the concurrency limit of '%s'".formatted(group.tag()));
+            }
+        }
+        this.limits = new EnumMap<>(limits);
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler
+    ) {
+        final var aPermit = this.limits.get(EndpointGroup.of(request)).acquire();
+        request.setAttribute(PERMIT, aPermit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex
+    ) {
+        if (request.getAttribute(PERMIT) instanceof AdaptiveConcurrencyLimit.Permit aPermit) {
+            request.removeAttribute(PERMIT);
+            aPermit.release(ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    public enum EndpointGroup {
+        READ("read"),
+        WRITE("write");
+
+        private final String tag;
+
+        EndpointGroup(final String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public static EndpointGroup of(final HttpServletRequest request) {
+            final var method = HttpMethod.valueOf(request.getMethod());
+            return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ? READ : WRITE;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Bulkhead;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CategoryBulkheadGateway implements CategoryGateway {
+
+    public static final String IN_FLIGHT_CALLS = "categories.gateway.bulkhead.in.flight";
+    public static final String REJECTED_CALLS = "categories.gateway.bulkhead.rejected.calls";
+
+    private final CategoryGateway delegate;
+    private final Bulkhead bulkhead;
+    private final Bulkhead exportBulkhead;
+
+    public CategoryBulkheadGateway(
+            final CategoryGateway delegate,
+            final Bulkhead aBulkhead,
+            final Bulkhead anExportBulkhead
+    ) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(aBulkhead);
+        Objects.requireNonNull(anExportBulkhead);
+        this.delegate = delegate;
+        this.bulkhead = aBulkhead;
+        this.exportBulkhead = anExportBulkhead;
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.bulkhead.execute(() -> this.delegate.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return this.bulkhead.execute(() -> this.delegate.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.bulkhead.run(() -> this.delegate.deleteById(anId));
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> anIds) {
+        this.bulkhead.run(() -> this.delegate.deleteAllById(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.bulkhead.execute(() -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.bulkhead.execute(() -> this.delegate.update(aCategory));
+    }
+
+    @Override
+    public boolean applyChange(final CategoryChange aChange) {
+        return this.bulkhead.execute(() -> this.delegate.applyChange(aChange));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.bulkhead.execute(() -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.bulkhead.execute(() -> this.delegate.findSummaries(aQuery));
+    }
+
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        return this.bulkhead.execute(() -> this.delegate.findChanges(aQuery));
+    }
+
+    // A exportação segura uma conexão durante todo o streaming, então usa um bulkhead próprio e pequeno
+    // para não tirar vagas das chamadas curtas enquanto o catálogo inteiro é escrito.
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        return this.exportBulkhead.execute(() -> this.delegate.forEachUpdatedSince(aSince, aConsumer));
+    }
+}
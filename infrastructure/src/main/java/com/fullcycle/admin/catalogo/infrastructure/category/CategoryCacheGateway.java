@@ -0,0 +1,121 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CategoryCacheGateway implements CategoryGateway {
+
+    public static final String CACHE_NAME = "categories.by-id";
+
+    private final CategoryGateway delegate;
+    private final Cache<String, Category> categories;
+
+    public CategoryCacheGateway(
+            final CategoryGateway delegate,
+            final Duration aTtl,
+            final long aMaxSize,
+            final MeterRegistry aMeterRegistry
+    ) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(aTtl);
+        Objects.requireNonNull(aMeterRegistry);
+        this.delegate = delegate;
+        this.categories = Caffeine.newBuilder()
+                .expireAfterWrite(aTtl)
+                .maximumSize(aMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(aMeterRegistry, this.categories, CACHE_NAME);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var created = this.delegate.create(aCategory);
+        evict(aCategory.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var created = this.delegate.createAll(aCategories);
+        aCategories.forEach(aCategory -> evict(aCategory.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+        evict(anId);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> anIds) {
+        this.delegate.deleteAllById(anIds);
+        anIds.forEach(this::evict);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        final var cached = this.categories.get(anId.getValue(), key -> this.delegate.findById(anId)
+                .map(Category::with)
+                .orElse(null));
+        return Optional.ofNullable(cached)
+                .map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        final var updated = this.delegate.update(aCategory);
+        evict(aCategory.getId());
+        return updated;
+    }
+
+    @Override
+    public boolean applyChange(final CategoryChange aChange) {
+        final var changed = this.delegate.applyChange(aChange);
+        evict(aChange.id());
+        return changed;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.delegate.findSummaries(aQuery);
+    }
+
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        return this.delegate.findChanges(aQuery);
+    }
+
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        return this.delegate.forEachUpdatedSince(aSince, aConsumer);
+    }
+
+    private void evict(final CategoryID anId) {
+        this.categories.invalidate(anId.getValue());
+    }
+}
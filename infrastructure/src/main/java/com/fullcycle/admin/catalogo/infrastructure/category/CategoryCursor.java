@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategorySort;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryProjection;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryConverter;
+import jakarta.persistence.Tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+public record CategoryCursor(
+        String sort,
+        String direction,
+        String value,
+        String id
+) {
+
+    private static final String SEPARATOR = "\n";
+
+    public static CategoryCursor of(final CategorySort sort, final SortDirection direction, final Tuple aRow) {
+        final var aValue = String.valueOf(aRow.get(SortKey.of(sort).property));
+        return new CategoryCursor(sort.getProperty(), direction.getValue(), aValue,
+                aRow.get(CategoryProjection.ID, String.class));
+    }
+
+    public static boolean supports(final CategorySort sort) {
+        return SortKey.find(sort.getProperty()) != null;
+    }
+
+    // aParameter é o nome do parâmetro da requisição que trouxe o cursor, usado na mensagem do 422.
+    public static CategoryCursor decode(final String aToken, final String aParameter) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw invalid(aParameter);
+        }
+        final var parts = decoded.split(SEPARATOR, 4);
+        if (parts.length != 4 || SortKey.find(parts[0]) == null || !UuidBinaryConverter.isConvertible(parts[2])) {
+            throw invalid(aParameter);
+        }
+        final var aCursor = new CategoryCursor(parts[0], parts[1], parts[3], parts[2]);
+        try {
+            aCursor.typedValue();
+        } catch (final RuntimeException e) {
+            throw invalid(aParameter);
+        }
+        return aCursor;
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction, id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(final CategorySort aSort, final SortDirection aDirection) {
+        return sort.equals(aSort.getProperty()) && direction.equals(aDirection.getValue());
+    }
+
+    public Comparable<?> typedValue() {
+        return SortKey.find(sort).parser.apply(value);
+    }
+
+    private static DomainException invalid(final String aParameter) {
+        return DomainException.with(new Error("'%s' is not a valid cursor".formatted(aParameter)));
+    }
+
+    private enum SortKey {
+        NAME(CategoryProjection.NAME, value -> value),
+        CREATED_AT(CategoryProjection.CREATED_AT, Instant::parse),
+        UPDATED_AT(CategoryProjection.UPDATED_AT, Instant::parse);
+
+        private final String property;
+        private final Function<String, Comparable<?>> parser;
+
+        SortKey(final String property, final Function<String, Comparable<?>> parser) {
+            this.property = property;
+            this.parser = parser;
+        }
+
+        static SortKey find(final String aProperty) {
+            for (final var key : values()) {
+                if (key.property.equals(aProperty)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+
+        static SortKey of(final CategorySort aSort) {
+            final var key = find(aSort.getProperty());
+            if (key == null) {
+                throw DomainException.with(new Error("'sort' %s does not support cursor pagination".formatted(aSort.getProperty())));
+            }
+            return key;
+        }
+    }
+}
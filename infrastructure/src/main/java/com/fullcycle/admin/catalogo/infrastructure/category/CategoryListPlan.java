@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
+import com.fullcycle.admin.catalogo.domain.category.CategorySort;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.hibernate.FullTextFunctionContributor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryProjection.SELECT;
+
+public final class CategoryListPlan {
+
+    public static final String TERMS = "terms";
+    public static final String AFTER = "after";
+    public static final String AFTER_ID = "afterId";
+
+    private static final String COUNT = "select count(c) from CategoryJpaEntity c";
+    private static final String RELEVANCE = "%s(c.name, c.description, :%s)"
+            .formatted(FullTextFunctionContributor.MATCH_AGAINST, TERMS);
+
+    private static final CategoryListPlan[][][] PLANS = buildAll();
+
+    private final CategorySort sort;
+    private final SortDirection direction;
+    private final CategoryFilter filter;
+    private final String[] selects;
+    private final String[] counts;
+
+    private CategoryListPlan(
+            final CategorySort aSort,
+            final SortDirection aDirection,
+            final CategoryFilter aFilter
+    ) {
+        this.sort = aSort;
+        this.direction = aDirection;
+        this.filter = aFilter;
+        this.selects = new String[Search.values().length * 2];
+        this.counts = new String[Search.values().length];
+        for (final var search : Search.values()) {
+            this.counts[search.ordinal()] = buildCount(search);
+            this.selects[search.ordinal() * 2] = buildSelect(search, false);
+            this.selects[search.ordinal() * 2 + 1] = supportsCursor() ? buildSelect(search, true) : null;
+        }
+    }
+
+    public static CategoryListPlan of(
+            final CategorySort aSort,
+            final SortDirection aDirection,
+            final CategoryFilter aFilter
+    ) {
+        return PLANS[aSort.ordinal()][aDirection.ordinal()][aFilter.ordinal()];
+    }
+
+    public CategorySort sort() {
+        return sort;
+    }
+
+    public SortDirection direction() {
+        return direction;
+    }
+
+    public CategoryFilter filter() {
+        return filter;
+    }
+
+    public boolean isRankedByRelevance() {
+        return sort == CategorySort.RELEVANCE;
+    }
+
+    public boolean supportsCursor() {
+        return CategoryCursor.supports(sort);
+    }
+
+    public String select(final Search aSearch, final boolean isAfterInformed) {
+        return selects[aSearch.ordinal() * 2 + (isAfterInformed ? 1 : 0)];
+    }
+
+    public String count(final Search aSearch) {
+        return counts[aSearch.ordinal()];
+    }
+
+    private String buildSelect(final Search aSearch, final boolean isAfterInformed) {
+        final var conditions = conditionsOf(aSearch);
+        if (isAfterInformed) {
+            conditions.add(seekAfter());
+        }
+        return SELECT + where(conditions) + " order by " + orderBy(aSearch);
+    }
+
+    private String buildCount(final Search aSearch) {
+        return COUNT + where(conditionsOf(aSearch));
+    }
+
+    private List<String> conditionsOf(final Search aSearch) {
+        final var conditions = new ArrayList<String>();
+        switch (aSearch) {
+            case LIKE -> conditions.add("(upper(c.name) like :%s or upper(c.description) like :%s)"
+                    .formatted(TERMS, TERMS));
+            case FULL_TEXT -> conditions.add(RELEVANCE + " > 0");
+            case NONE -> {
+            }
+        }
+        switch (filter) {
+            case ACTIVE -> conditions.add("c.active = true");
+            case INACTIVE -> conditions.add("c.active = false");
+            case ALL -> {
+            }
+        }
+        return conditions;
+    }
+
+    private String seekAfter() {
+        final var operator = direction.isAscending() ? ">" : "<";
+        return "(c.%1$s %2$s :%3$s or (c.%1$s = :%3$s and c.id %2$s :%4$s))"
+                .formatted(sort.getProperty(), operator, AFTER, AFTER_ID);
+    }
+
+    private String orderBy(final Search aSearch) {
+        if (isRankedByRelevance() && aSearch == Search.FULL_TEXT) {
+            return RELEVANCE + " desc, c.id asc";
+        }
+        final var property = isRankedByRelevance() ? CategorySort.NAME.getProperty() : sort.getProperty();
+        return "c.%1$s %2$s, c.id %2$s".formatted(property, direction.getValue());
+    }
+
+    private static String where(final List<String> conditions) {
+        return conditions.isEmpty() ? "" : " where " + String.join(" and ", conditions);
+    }
+
+    private static CategoryListPlan[][][] buildAll() {
+        final var sorts = CategorySort.values();
+        final var directions = SortDirection.values();
+        final var filters = CategoryFilter.values();
+        final var plans = new CategoryListPlan[sorts.length][directions.length][filters.length];
+        for (final var sort : sorts) {
+            for (final var direction : directions) {
+                for (final var filter : filters) {
+                    plans[sort.ordinal()][direction.ordinal()][filter.ordinal()] =
+                            new CategoryListPlan(sort, direction, filter);
+                }
+            }
+        }
+        return plans;
+    }
+
+    public enum Search {
+        NONE,
+        LIKE,
+        FULL_TEXT
+    }
+}
@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CallMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CategoryMetricsGateway implements CategoryGateway {
+
+    public static final String PREFIX = "categories.gateway";
+    public static final String CALLS = CallMetrics.callsOf(PREFIX);
+    public static final String ERRORS = CallMetrics.errorsOf(PREFIX);
+    public static final String RESULT_SIZE = CallMetrics.resultSizeOf(PREFIX);
+
+    private final CategoryGateway delegate;
+    private final CallMetrics metrics;
+
+    public CategoryMetricsGateway(final CategoryGateway delegate, final MeterRegistry aMeterRegistry) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(aMeterRegistry);
+        this.delegate = delegate;
+        this.metrics = new CallMetrics(PREFIX, "method", "category gateway", aMeterRegistry);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.metrics.record("create", () -> this.delegate.create(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return this.metrics.record("createAll", () -> this.delegate.createAll(aCategories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.metrics.run("deleteById", () -> this.delegate.deleteById(anId));
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> anIds) {
+        this.metrics.run("deleteAllById", () -> this.delegate.deleteAllById(anIds));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.metrics.record("findById", () -> this.delegate.findById(anId));
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.metrics.record("update", () -> this.delegate.update(aCategory));
+    }
+
+    @Override
+    public boolean applyChange(final CategoryChange aChange) {
+        return this.metrics.record("applyChange", () -> this.delegate.applyChange(aChange));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.metrics.record("findAll", () -> this.delegate.findAll(aQuery));
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.metrics.record("findSummaries", () -> this.delegate.findSummaries(aQuery));
+    }
+
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        return this.metrics.record("findChanges", () -> this.delegate.findChanges(aQuery));
+    }
+
+    // O tempo da exportação inclui o consumer (a escrita do NDJSON na resposta), não só a leitura do banco.
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        return this.metrics.record("forEachUpdatedSince", () -> this.delegate.forEachUpdatedSince(aSince, aConsumer));
+    }
+}
@@ -1,56 +1,199 @@
 package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySort;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryListPlan.Search;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryProjection;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.Page;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryTombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryTombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryConverter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.Tuple;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final int MIN_FULL_TEXT_TERMS_LENGTH = 2;
+    private static final String AGGREGATE_TYPE = Category.class.getSimpleName();
+    private static final String SINCE = "since";
+    private static final String AFTER = "after";
+    private static final String CURSOR = "cursor";
+    private static final String FIRST_ID = new UUID(0, 0).toString();
+    private static final CategoryListPlan CHANGES_PLAN =
+            CategoryListPlan.of(CategorySort.UPDATED_AT, SortDirection.ASC, CategoryFilter.ALL);
+    private static final String EXPORT_ALL = CategoryProjection.SELECT + " order by c.updatedAt, c.id";
+    private static final String EXPORT_SINCE = CategoryProjection.SELECT
+            + " where c.updatedAt >= :" + SINCE + " order by c.updatedAt, c.id";
+    private static final String TOMBSTONES_ALL = CategoryProjection.SELECT_TOMBSTONE + " order by t.deletedAt, t.id";
+    private static final String TOMBSTONES_AFTER = CategoryProjection.SELECT_TOMBSTONE
+            + " where (t.deletedAt > :%1$s or (t.deletedAt = :%1$s and t.id > :%2$s)) order by t.deletedAt, t.id"
+            .formatted(CategoryListPlan.AFTER, CategoryListPlan.AFTER_ID);
+    private static final Comparator<CategoryFeedItem> FEED_ORDER = Comparator
+            .comparing(CategoryFeedItem::changedAt)
+            .thenComparing(anItem -> anItem.id().getValue());
+
     private final CategoryRepository repository;
+    private final CategoryTombstoneRepository tombstoneRepository;
+    private final Outbox outbox;
+    private final Cache<String, Long> estimatedTotals;
+    private final boolean fullTextEnabled;
+    private final int exportFetchSize;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final CategoryTombstoneRepository tombstoneRepository,
+            final Outbox outbox,
+            @Value("${categories.list.estimated-total.ttl:30s}") final Duration estimatedTotalTtl,
+            @Value("${categories.list.estimated-total.max-size:1000}") final long estimatedTotalMaxSize,
+            @Value("${categories.search.full-text:false}") final boolean fullTextEnabled,
+            @Value("${categories.export.fetch-size:1000}") final int exportFetchSize
+    ) {
         Objects.requireNonNull(repository);
+        Objects.requireNonNull(tombstoneRepository);
+        Objects.requireNonNull(outbox);
         this.repository = repository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.outbox = outbox;
+        this.fullTextEnabled = fullTextEnabled;
+        this.exportFetchSize = exportFetchSize;
+        this.estimatedTotals = Caffeine.newBuilder()
+                .expireAfterWrite(estimatedTotalTtl)
+                .maximumSize(estimatedTotalMaxSize)
+                .build();
     }
 
     @Override
+    @Transactional
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        final var aCreated = this.repository.insert(CategoryJpaEntity.from(aCategory))
+                .toAggregate();
+        appendEvents(List.of(aCategory));
+        return aCreated;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+        final var created = this.repository.insertAll(entities).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+        appendEvents(aCategories);
+        return created;
     }
 
+    // O DELETE apaga a linha, então a remoção só chega aos consumidores pela marca lida pelo feed e pelo evento
+    // gravado no outbox.
     @Override
+    @Transactional
     public void deleteById(final CategoryID anId) {
-        final var anIdValue = anId.getValue();
-        final var exists = this.repository.existsById(anIdValue);
-        if (exists) {
-            this.repository.deleteById(anIdValue);
+        if (isStorable(anId) && this.repository.removeById(anId.getValue()) > 0) {
+            recordRemovals(List.of(anId.getValue()), Instant.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteAllById(final List<CategoryID> anIds) {
+        final var anIdValues = anIds.stream()
+                .filter(this::isStorable)
+                .map(CategoryID::getValue)
+                .collect(Collectors.toSet());
+        if (anIdValues.isEmpty()) {
+            return;
         }
+        final var deletedIds = this.repository.lockAllById(anIdValues);
+        if (deletedIds.isEmpty()) {
+            return;
+        }
+        this.repository.removeAllById(deletedIds);
+        recordRemovals(deletedIds, Instant.now());
+    }
+
+    private void recordRemovals(final List<String> anIds, final Instant aDeletedAt) {
+        this.tombstoneRepository.saveAllAndFlush(anIds.stream()
+                .map(anId -> new CategoryTombstoneJpaEntity(anId, aDeletedAt))
+                .toList());
+        this.outbox.append(AGGREGATE_TYPE, anIds.stream()
+                .map(anId -> CategoryEvent.deleted(CategoryID.from(anId), aDeletedAt))
+                .toList());
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
+        if (!isStorable(anId)) {
+            return Optional.empty();
+        }
         return this.repository.findById(anId.getValue())
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional
     public Category update(final Category aCategory) {
-        return save(aCategory);
+        final var anUpdated = save(aCategory);
+        appendEvents(List.of(aCategory));
+        return anUpdated;
+    }
+
+    @Override
+    @Transactional
+    public boolean applyChange(final CategoryChange aChange) {
+        return isStorable(aChange.id()) && appendIf(apply(aChange) > 0, aChange.event());
+    }
+
+    private int apply(final CategoryChange aChange) {
+        final var anId = aChange.id().getValue();
+        if (aChange.changesDetails()) {
+            final var details = aChange.details();
+            return this.repository.updateDetailsById(anId, details.name(), details.description(), aChange.updatedAt());
+        }
+        final var status = aChange.status();
+        return this.repository.updateStatusById(
+                anId, status.active(), status.deletedAt(), status.keepsDeletedAt(), aChange.updatedAt());
+    }
+
+    private boolean isStorable(final CategoryID anId) {
+        return UuidBinaryConverter.isConvertible(anId.getValue());
     }
 
     private Category save(final Category aCategory) {
@@ -58,35 +201,194 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .toAggregate();
     }
 
+    private void appendEvents(final List<Category> aCategories) {
+        this.outbox.append(AGGREGATE_TYPE, aCategories.stream()
+                .flatMap(aCategory -> aCategory.getDomainEvents().stream())
+                .toList());
+        aCategories.forEach(Category::clearDomainEvents);
+    }
+
+    // As atualizações condicionais não carregam o agregado, então o evento só é gravado quando a linha existia.
+    private boolean appendIf(final boolean changed, final CategoryEvent anEvent) {
+        if (changed) {
+            this.outbox.append(AGGREGATE_TYPE, List.of(anEvent));
+        }
+        return changed;
+    }
+
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var page = aQuery.page();
-        final var perPage = aQuery.perPage();
-        final var sort = Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort());
-        final var pageRequest = PageRequest.of(page, perPage, sort);
-        final var terms = aQuery.terms();
-        final var specifications = isTermsNotInformed(terms) ?
-                filterOneEqualsOne() : filterLikeNameOrDescription(terms);
-
-        final Page<CategoryJpaEntity> pageResult = this.repository.findAll(Specification
-                .where(specifications), pageRequest);
+        return findAll(aQuery, CategoryProjection::toAggregate);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return findAll(aQuery, CategoryProjection::toSummary);
+    }
+
+    private <T> Pagination<T> findAll(final CategorySearchQuery aQuery, final Function<Tuple, T> aMapper) {
+        final var plan = CategoryListPlan.of(aQuery.sort(), aQuery.direction(), aQuery.filter());
+        final var search = searchOf(aQuery.terms());
+        final var filterParameters = termsParameters(search, aQuery.terms());
+        final var parameters = aQuery.isAfterInformed()
+                ? seekAfter(aQuery, plan, filterParameters)
+                : filterParameters;
+        final var page = aQuery.isAfterInformed() ? 0 : aQuery.page();
+
+        final Slice<Tuple> sliceResult = this.repository.findSlice(
+                plan.select(search, aQuery.isAfterInformed()),
+                parameters,
+                PageRequest.of(page, aQuery.perPage())
+        );
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult
-                        .map(CategoryJpaEntity::toAggregate)
-                        .toList()
+                aQuery.page(),
+                aQuery.perPage(),
+                totalOf(aQuery, plan.count(search), filterParameters),
+                sliceResult
+                        .map(aMapper)
+                        .toList(),
+                nextCursor(plan, sliceResult),
+                sliceResult.hasNext()
         );
     }
 
-    private Specification<CategoryJpaEntity> filterLikeNameOrDescription(String terms) {
-        return SpecificationUtils.<CategoryJpaEntity>like("name", terms).or(
-                SpecificationUtils.like("description", terms));
+    // Linhas vivas e marcas de remoção vêm de tabelas diferentes, cada uma por um seek no próprio índice
+    // (instante, id); as duas páginas são intercaladas na mesma ordem e cortadas no limite.
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        final var parameters = changesAfter(aQuery);
+        final var page = PageRequest.of(0, aQuery.limit());
+        final Slice<Tuple> changed = this.repository.findSlice(
+                CHANGES_PLAN.select(Search.NONE, !parameters.isEmpty()),
+                parameters,
+                page
+        );
+        final Slice<Tuple> removed = this.repository.findSlice(
+                parameters.isEmpty() ? TOMBSTONES_ALL : TOMBSTONES_AFTER,
+                parameters,
+                page
+        );
+        final var items = Stream.concat(
+                        changed.stream().map(row -> CategoryFeedItem.changed(CategoryProjection.toSummary(row))),
+                        removed.stream().map(CategoryProjection::toRemoval))
+                .sorted(FEED_ORDER)
+                .toList();
+        final var pageItems = items.size() > aQuery.limit() ? items.subList(0, aQuery.limit()) : items;
+        final var next = pageItems.isEmpty()
+                ? emptyPageCursor(aQuery)
+                : changesCursor(pageItems.get(pageItems.size() - 1));
+        return new Pagination<>(
+                0,
+                aQuery.limit(),
+                Pagination.UNKNOWN_TOTAL,
+                pageItems,
+                next,
+                changed.hasNext() || removed.hasNext() || items.size() > aQuery.limit()
+        );
+    }
+
+    // Sem alterações, o cliente continua de onde estava: o cursor recebido ou o mesmo seek derivado do since.
+    private String emptyPageCursor(final CategoryChangesQuery aQuery) {
+        if (aQuery.isCursorInformed()) {
+            return aQuery.cursor();
+        }
+        return aQuery.since() == null ? null : changesCursor(aQuery.since(), FIRST_ID);
+    }
+
+    private String changesCursor(final CategoryFeedItem aLast) {
+        return changesCursor(aLast.changedAt(), aLast.id().getValue());
+    }
+
+    private String changesCursor(final Instant aChangedAt, final String anId) {
+        return new CategoryCursor(
+                CHANGES_PLAN.sort().getProperty(),
+                CHANGES_PLAN.direction().getValue(),
+                aChangedAt.toString(),
+                anId
+        ).encode();
+    }
+
+    private Map<String, Object> changesAfter(final CategoryChangesQuery aQuery) {
+        if (aQuery.isCursorInformed()) {
+            final var aCursor = CategoryCursor.decode(aQuery.cursor(), CURSOR);
+            if (!aCursor.matches(CHANGES_PLAN.sort(), CHANGES_PLAN.direction())) {
+                throw DomainException.with(new Error("'cursor' does not belong to the change feed"));
+            }
+            return Map.of(CategoryListPlan.AFTER, aCursor.typedValue(), CategoryListPlan.AFTER_ID, aCursor.id());
+        }
+        if (aQuery.since() != null) {
+            // Seek a partir de (since, menor id possível) equivale a updated_at >= since no mesmo índice do cursor.
+            return Map.of(CategoryListPlan.AFTER, aQuery.since(), CategoryListPlan.AFTER_ID, FIRST_ID);
+        }
+        return Map.of();
+    }
+
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        final var query = aSince == null ? EXPORT_ALL : EXPORT_SINCE;
+        final Map<String, Object> parameters = aSince == null ? Map.of() : Map.of(SINCE, aSince);
+        return this.repository.forEach(query, parameters, this.exportFetchSize,
+                row -> aConsumer.accept(CategoryProjection.toAggregate(row)));
+    }
+
+    private long totalOf(final CategorySearchQuery aQuery, final String aCount, final Map<String, Object> aParameters) {
+        return switch (aQuery.countMode()) {
+            case EXACT -> this.repository.count(aCount, aParameters);
+            case ESTIMATED -> this.estimatedTotals.get(
+                    normalize(aQuery.terms()) + "|" + aQuery.filter(), key -> this.repository.count(aCount, aParameters));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    private Map<String, Object> seekAfter(
+            final CategorySearchQuery aQuery,
+            final CategoryListPlan aPlan,
+            final Map<String, Object> aParameters
+    ) {
+        final var aCursor = CategoryCursor.decode(aQuery.after(), AFTER);
+        if (!aCursor.matches(aPlan.sort(), aPlan.direction())) {
+            throw DomainException.with(new Error("'after' cursor does not match the requested sort"));
+        }
+        final var parameters = new HashMap<>(aParameters);
+        parameters.put(CategoryListPlan.AFTER, aCursor.typedValue());
+        parameters.put(CategoryListPlan.AFTER_ID, aCursor.id());
+        return parameters;
+    }
+
+    private String nextCursor(final CategoryListPlan aPlan, final Slice<Tuple> aSlice) {
+        if (!aSlice.hasNext() || !aSlice.hasContent() || !aPlan.supportsCursor()) {
+            return null;
+        }
+        return cursorOf(aPlan, aSlice.getContent().get(aSlice.getNumberOfElements() - 1));
+    }
+
+    private String cursorOf(final CategoryListPlan aPlan, final Tuple aLast) {
+        return CategoryCursor.of(aPlan.sort(), aPlan.direction(), aLast).encode();
+    }
+
+    private Search searchOf(final String terms) {
+        if (isTermsNotInformed(terms)) {
+            return Search.NONE;
+        }
+        return isFullTextApplicable(terms) ? Search.FULL_TEXT : Search.LIKE;
+    }
+
+    private Map<String, Object> termsParameters(final Search aSearch, final String terms) {
+        return switch (aSearch) {
+            case NONE -> Map.of();
+            case LIKE -> Map.of(CategoryListPlan.TERMS, SqlUtils.like(terms.toUpperCase()));
+            case FULL_TEXT -> Map.of(CategoryListPlan.TERMS, SqlUtils.phrase(terms.trim()));
+        };
+    }
+
+    private String normalize(final String terms) {
+        return isTermsNotInformed(terms) ? "" : terms.trim().toUpperCase();
     }
 
-    private Specification<CategoryJpaEntity> filterOneEqualsOne() {
-        return SpecificationUtils.<CategoryJpaEntity>oneEqualsOne();
+    private boolean isFullTextApplicable(final String terms) {
+        return this.fullTextEnabled
+                && !isTermsNotInformed(terms)
+                && SqlUtils.withoutBooleanOperators(terms).length() >= MIN_FULL_TEXT_TERMS_LENGTH;
     }
 
     private boolean isTermsNotInformed(String terms) {
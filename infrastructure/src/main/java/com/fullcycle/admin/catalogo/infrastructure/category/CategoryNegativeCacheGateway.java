@@ -0,0 +1,147 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CategoryNegativeCacheGateway implements CategoryGateway {
+
+    public static final String CACHE_NAME = "categories.absent-ids";
+
+    private final CategoryGateway delegate;
+    private final Cache<String, Boolean> absentIds;
+
+    public CategoryNegativeCacheGateway(
+            final CategoryGateway delegate,
+            final Duration aTtl,
+            final long aMaxSize,
+            final MeterRegistry aMeterRegistry
+    ) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(aTtl);
+        Objects.requireNonNull(aMeterRegistry);
+        this.delegate = delegate;
+        this.absentIds = Caffeine.newBuilder()
+                .expireAfterWrite(aTtl)
+                .maximumSize(aMaxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(aMeterRegistry, this.absentIds, CACHE_NAME);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var anIdValue = aCategory.getId().getValue();
+        this.absentIds.invalidate(anIdValue);
+        final var created = this.delegate.create(aCategory);
+        this.absentIds.invalidate(anIdValue);
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var anIdValues = aCategories.stream()
+                .map(aCategory -> aCategory.getId().getValue())
+                .toList();
+        this.absentIds.invalidateAll(anIdValues);
+        final var created = this.delegate.createAll(aCategories);
+        this.absentIds.invalidateAll(anIdValues);
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        if (isKnownAbsent(anId)) {
+            return;
+        }
+        this.delegate.deleteById(anId);
+        markAbsent(anId);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> anIds) {
+        final var unknownIds = anIds.stream()
+                .filter(anId -> !isKnownAbsent(anId))
+                .toList();
+        if (unknownIds.isEmpty()) {
+            return;
+        }
+        this.delegate.deleteAllById(unknownIds);
+        unknownIds.forEach(this::markAbsent);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        if (isKnownAbsent(anId)) {
+            return Optional.empty();
+        }
+        final var aCategory = this.delegate.findById(anId);
+        if (aCategory.isEmpty()) {
+            markAbsent(anId);
+        }
+        return aCategory;
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public boolean applyChange(final CategoryChange aChange) {
+        return !isKnownAbsent(aChange.id())
+                && rememberIfAbsent(aChange.id(), this.delegate.applyChange(aChange));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.delegate.findSummaries(aQuery);
+    }
+
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        return this.delegate.findChanges(aQuery);
+    }
+
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        return this.delegate.forEachUpdatedSince(aSince, aConsumer);
+    }
+
+    private boolean isKnownAbsent(final CategoryID anId) {
+        return this.absentIds.getIfPresent(anId.getValue()) != null;
+    }
+
+    private void markAbsent(final CategoryID anId) {
+        this.absentIds.put(anId.getValue(), Boolean.TRUE);
+    }
+
+    private boolean rememberIfAbsent(final CategoryID anId, final boolean found) {
+        if (!found) {
+            markAbsent(anId);
+        }
+        return found;
+    }
+}
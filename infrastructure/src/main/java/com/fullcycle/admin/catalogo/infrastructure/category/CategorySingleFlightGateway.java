@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CategorySingleFlightGateway implements CategoryGateway {
+
+    public static final String COLLAPSED_CALLS = "categories.gateway.collapsed.calls";
+
+    private final CategoryGateway delegate;
+    private final SingleFlight<CategoryID, Optional<Category>> findByIdFlights;
+    private final SingleFlight<CategorySearchQuery, Pagination<Category>> findAllFlights;
+    private final SingleFlight<CategorySearchQuery, Pagination<CategorySummary>> findSummariesFlights;
+
+    public CategorySingleFlightGateway(final CategoryGateway delegate, final MeterRegistry aMeterRegistry) {
+        Objects.requireNonNull(delegate);
+        Objects.requireNonNull(aMeterRegistry);
+        this.delegate = delegate;
+        this.findByIdFlights = new SingleFlight<>(collapsedCalls(aMeterRegistry, "findById"));
+        this.findAllFlights = new SingleFlight<>(collapsedCalls(aMeterRegistry, "findAll"));
+        this.findSummariesFlights = new SingleFlight<>(collapsedCalls(aMeterRegistry, "findSummaries"));
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> aCategories) {
+        return this.delegate.createAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final CategoryID anId) {
+        this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> anIds) {
+        this.delegate.deleteAllById(anIds);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return this.findByIdFlights.execute(anId, () -> this.delegate.findById(anId))
+                .map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category aCategory) {
+        return this.delegate.update(aCategory);
+    }
+
+    @Override
+    public boolean applyChange(final CategoryChange aChange) {
+        return this.delegate.applyChange(aChange);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
+        return this.findAllFlights.execute(aQuery, () -> this.delegate.findAll(aQuery))
+                .map(Category::with);
+    }
+
+    // Ao contrário do agregado, o CategorySummary é imutável, então a mesma página vai para todos os chamadores.
+    @Override
+    public Pagination<CategorySummary> findSummaries(final CategorySearchQuery aQuery) {
+        return this.findSummariesFlights.execute(aQuery, () -> this.delegate.findSummaries(aQuery));
+    }
+
+    @Override
+    public Pagination<CategoryFeedItem> findChanges(final CategoryChangesQuery aQuery) {
+        return this.delegate.findChanges(aQuery);
+    }
+
+    @Override
+    public long forEachUpdatedSince(final Instant aSince, final Consumer<Category> aConsumer) {
+        return this.delegate.forEachUpdatedSince(aSince, aConsumer);
+    }
+
+    private static Counter collapsedCalls(final MeterRegistry aMeterRegistry, final String aMethod) {
+        return Counter.builder(COLLAPSED_CALLS)
+                .description("Calls that joined an identical in-flight database call instead of issuing their own")
+                .tag("method", aMethod)
+                .register(aMeterRegistry);
+    }
+}
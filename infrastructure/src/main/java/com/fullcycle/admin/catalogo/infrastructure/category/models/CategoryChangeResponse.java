@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record CategoryChangeResponse(
+        String id,
+        String name,
+        String description,
+        @JsonProperty("is_active") boolean active,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("is_removed") boolean removed
+) {
+}
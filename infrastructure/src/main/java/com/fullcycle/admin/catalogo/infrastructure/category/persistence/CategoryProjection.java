@@ -0,0 +1,63 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import jakarta.persistence.Tuple;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public final class CategoryProjection {
+
+    public static final String ID = "id";
+    public static final String NAME = "name";
+    public static final String DESCRIPTION = "description";
+    public static final String ACTIVE = "active";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String DELETED_AT = "deletedAt";
+
+    public static final List<String> COLUMNS = List.of(ID, NAME, DESCRIPTION, ACTIVE, CREATED_AT, UPDATED_AT, DELETED_AT);
+    public static final String SELECT = "select %s from CategoryJpaEntity c".formatted(COLUMNS.stream()
+            .map(column -> "c.%s as %s".formatted(column, column))
+            .collect(Collectors.joining(", ")));
+    public static final String SELECT_TOMBSTONE = "select t.id as %s, t.deletedAt as %s from CategoryTombstoneJpaEntity t"
+            .formatted(ID, DELETED_AT);
+
+    private CategoryProjection() {
+    }
+
+    public static Category toAggregate(final Tuple aRow) {
+        return Category.with(
+                CategoryID.from(aRow.get(ID, String.class)),
+                aRow.get(NAME, String.class),
+                aRow.get(DESCRIPTION, String.class),
+                aRow.get(ACTIVE, Boolean.class),
+                aRow.get(CREATED_AT, Instant.class),
+                aRow.get(UPDATED_AT, Instant.class),
+                aRow.get(DELETED_AT, Instant.class)
+        );
+    }
+
+    public static CategorySummary toSummary(final Tuple aRow) {
+        return new CategorySummary(
+                CategoryID.from(aRow.get(ID, String.class)),
+                aRow.get(NAME, String.class),
+                aRow.get(DESCRIPTION, String.class),
+                aRow.get(ACTIVE, Boolean.class),
+                aRow.get(CREATED_AT, Instant.class),
+                aRow.get(UPDATED_AT, Instant.class),
+                aRow.get(DELETED_AT, Instant.class)
+        );
+    }
+
+    public static CategoryFeedItem toRemoval(final Tuple aRow) {
+        return CategoryFeedItem.removed(
+                CategoryID.from(aRow.get(ID, String.class)),
+                aRow.get(DELETED_AT, Instant.class)
+        );
+    }
+}
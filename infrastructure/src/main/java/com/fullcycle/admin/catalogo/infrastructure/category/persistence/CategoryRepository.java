@@ -1,11 +1,62 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategoryRepositoryCustom {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id = :id")
+    int removeById(@Param("id") String anId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CategoryJpaEntity c where c.id in :ids")
+    int removeAllById(@Param("ids") Collection<String> anIds);
+
+    // SELECT ... FOR UPDATE: trava as linhas até o DELETE da mesma transação, então um delete concorrente dos
+    // mesmos ids espera e não vê mais as linhas, e cada remoção gera um único evento.
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c.id from CategoryJpaEntity c where c.id in :ids")
+    List<String> lockAllById(@Param("ids") Collection<String> anIds);
+
+    // Só aplicam o CategoryChange montado pelo agregado; as regras de cada alteração ficam em Category.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CategoryJpaEntity c
+               set c.name = :name, c.description = :description, c.updatedAt = :updatedAt
+             where c.id = :id""")
+    int updateDetailsById(
+            @Param("id") String anId,
+            @Param("name") String aName,
+            @Param("description") String aDescription,
+            @Param("updatedAt") Instant anUpdatedAt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update CategoryJpaEntity c
+               set c.active = :active,
+                   c.deletedAt = case when :keepsDeletedAt = true then coalesce(c.deletedAt, :deletedAt) else :deletedAt end,
+                   c.updatedAt = :updatedAt
+             where c.id = :id""")
+    int updateStatusById(
+            @Param("id") String anId,
+            @Param("active") boolean isActive,
+            @Param("deletedAt") Instant aDeletedAt,
+            @Param("keepsDeletedAt") boolean keepsDeletedAt,
+            @Param("updatedAt") Instant anUpdatedAt);
 }
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public interface CategoryRepositoryCustom {
+
+    CategoryJpaEntity insert(CategoryJpaEntity entity);
+
+    List<CategoryJpaEntity> insertAll(List<CategoryJpaEntity> entities);
+
+    Slice<Tuple> findSlice(String aQuery, Map<String, ?> aParameters, Pageable page);
+
+    long count(String aQuery, Map<String, ?> aParameters);
+
+    long forEach(String aQuery, Map<String, ?> aParameters, int aFetchSize, Consumer<Tuple> aConsumer);
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public CategoryJpaEntity insert(final CategoryJpaEntity entity) {
+        entityManager.persist(entity);
+        entityManager.flush();
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> insertAll(final List<CategoryJpaEntity> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % INSERT_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Tuple> findSlice(
+            final String aQuery,
+            final Map<String, ?> aParameters,
+            final Pageable page
+    ) {
+        final var query = entityManager.createQuery(aQuery, Tuple.class);
+        aParameters.forEach(query::setParameter);
+        return sliceOf(query, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long count(final String aQuery, final Map<String, ?> aParameters) {
+        final var query = entityManager.createQuery(aQuery, Long.class);
+        aParameters.forEach(query::setParameter);
+        return query.getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long forEach(
+            final String aQuery,
+            final Map<String, ?> aParameters,
+            final int aFetchSize,
+            final Consumer<Tuple> aConsumer
+    ) {
+        final var query = entityManager.createQuery(aQuery, Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, aFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        aParameters.forEach(query::setParameter);
+        var count = 0L;
+        try (final var rows = query.getResultStream()) {
+            final var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                aConsumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Slice<Tuple> sliceOf(final TypedQuery<Tuple> query, final Pageable page) {
+        final var results = query
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+        final var hasNext = results.size() > page.getPageSize();
+        final var content = hasNext ? results.subList(0, page.getPageSize()) : results;
+        return new SliceImpl<>(content, page, hasNext);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// Marca de uma categoria removida: o DELETE apaga a linha, então é daqui que o feed de alterações lê as remoções.
+@Entity
+@Table(name = "category_tombstone")
+public class CategoryTombstoneJpaEntity implements Persistable<String> {
+
+    @Id
+    @Convert(converter = UuidBinaryConverter.class)
+    private String id;
+
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    public CategoryTombstoneJpaEntity() {
+    }
+
+    public CategoryTombstoneJpaEntity(final String id, final Instant deletedAt) {
+        this.id = id;
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    // Só é criada pela remoção, então o save vira um INSERT sem o SELECT do merge.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
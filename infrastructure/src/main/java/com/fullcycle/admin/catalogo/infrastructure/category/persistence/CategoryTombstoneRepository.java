@@ -0,0 +1,6 @@
+package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CategoryTombstoneRepository extends JpaRepository<CategoryTombstoneJpaEntity, String> {
+}
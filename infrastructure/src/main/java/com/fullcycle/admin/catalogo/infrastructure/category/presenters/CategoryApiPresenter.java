@@ -1,7 +1,9 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.presenters;
 
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryChangeResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.GetCategoryByIdResponse;
 
@@ -29,4 +31,17 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategoryChangeResponse present(final CategoryChangeOutput output) {
+        return new CategoryChangeResponse(
+                output.id(),
+                output.name(),
+                output.description(),
+                output.active(),
+                output.createdAt(),
+                output.updatedAt(),
+                output.deletedAt(),
+                output.removed()
+        );
+    }
 }
@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.interceptors.ConcurrencyLimitInterceptor;
+import com.fullcycle.admin.catalogo.infrastructure.api.interceptors.ConcurrencyLimitInterceptor.EndpointGroup;
+import com.fullcycle.admin.catalogo.infrastructure.utils.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+
+@Configuration
+@ConditionalOnProperty(name = "categories.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${categories.concurrency-limit.initial-limit:20}") final int initialLimit,
+            @Value("${categories.concurrency-limit.min-limit:4}") final int minLimit,
+            @Value("${categories.concurrency-limit.max-limit:64}") final int maxLimit,
+            @Value("${categories.concurrency-limit.latency-threshold:250ms}") final Duration aLatencyThreshold,
+            @Value("${categories.concurrency-limit.backoff-ratio:0.9}") final double backoffRatio,
+            @Value("${categories.concurrency-limit.retry-after:1s}") final Duration aRetryAfter
+    ) {
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        final var limits = new EnumMap<EndpointGroup, AdaptiveConcurrencyLimit>(EndpointGroup.class);
+        for (final var group : EndpointGroup.values()) {
+            final var rejected = Counter.builder(ConcurrencyLimitInterceptor.REJECTED_REQUESTS)
+                    .description("Requests rejected because the endpoint group was at its concurrency limit")
+                    .tag("group", group.tag())
+                    .register(registry);
+            final var aLimit = new AdaptiveConcurrencyLimit(
+                    "categories.api." + group.tag(),
+                    initialLimit,
+                    minLimit,
+                    maxLimit,
+                    aLatencyThreshold,
+                    backoffRatio,
+                    aRetryAfter,
+                    rejected,
+                    System::nanoTime
+            );
+            Gauge.builder(ConcurrencyLimitInterceptor.LIMIT, aLimit, AdaptiveConcurrencyLimit::limit)
+                    .description("Current adaptive concurrency limit of the endpoint group")
+                    .tag("group", group.tag())
+                    .register(registry);
+            Gauge.builder(ConcurrencyLimitInterceptor.IN_FLIGHT, aLimit, AdaptiveConcurrencyLimit::inFlight)
+                    .description("Requests of the endpoint group currently being handled")
+                    .tag("group", group.tag())
+                    .register(registry);
+            limits.put(group, aLimit);
+        }
+        this.interceptor = new ConcurrencyLimitInterceptor(limits);
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        // O export escreve o NDJSON de forma assíncrona e dura o catálogo inteiro, então não entra na amostra de latência.
+        registry.addInterceptor(this.interceptor)
+                .addPathPatterns("/categories/**", "/categories")
+                .excludePathPatterns("/categories/export");
+    }
+}
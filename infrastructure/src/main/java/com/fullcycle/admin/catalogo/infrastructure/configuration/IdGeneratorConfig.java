@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${categories.id.generator:random}") final String aStrategy) {
+        return switch (aStrategy) {
+            case "time-ordered" -> IdGenerator.timeOrdered();
+            case "random" -> IdGenerator.random();
+            default -> throw new IllegalArgumentException(
+                    "'categories.id.generator' should be 'time-ordered' or 'random' but was '%s'".formatted(aStrategy));
+        };
+    }
+}
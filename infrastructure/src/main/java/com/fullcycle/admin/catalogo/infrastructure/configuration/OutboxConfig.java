@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.EventPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.FileEventPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.InMemoryEventPublisher;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxRelay;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public EventPublisher eventPublisher(
+            @Value("${outbox.publisher.type:file}") final String aType,
+            @Value("${outbox.publisher.file.path:build/outbox/category-events.ndjson}") final Path aPath
+    ) {
+        return switch (aType) {
+            case "file" -> new FileEventPublisher(aPath);
+            case "memory" -> new InMemoryEventPublisher();
+            default -> throw new IllegalArgumentException(
+                    "'outbox.publisher.type' should be 'file' or 'memory' but was '%s'".formatted(aType));
+        };
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final EventPublisher eventPublisher,
+            final PlatformTransactionManager transactionManager,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${outbox.relay.batch-size:500}") final int batchSize
+    ) {
+        return new OutboxRelay(
+                outboxEventRepository,
+                eventPublisher,
+                batchSize,
+                new TransactionTemplate(transactionManager),
+                Clock.systemUTC(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)
+        );
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxRelaySchedulingConfig {
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.hibernate;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        final var relevanceType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        functionContributions.getFunctionRegistry()
+                .registerPattern(MATCH_AGAINST, "match(?1, ?2) against (?3 in boolean mode)", relevanceType);
+    }
+}
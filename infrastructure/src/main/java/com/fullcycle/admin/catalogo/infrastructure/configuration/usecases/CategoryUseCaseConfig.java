@@ -3,65 +3,171 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
 import com.fullcycle.admin.catalogo.application.category.activate.DefaultActivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.DefaultBatchCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DefaultDeactivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.DefaultListCategoryChangesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ProjectedListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryBulkheadGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryCacheGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMetricsGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryNegativeCacheGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategorySingleFlightGateway;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
 
 @Configuration
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final IdGenerator idGenerator;
+    private final CategoryUseCaseMetrics useCaseMetrics;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        Objects.requireNonNull(categoryGateway);
+    public CategoryUseCaseConfig(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final IdGenerator idGenerator,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${categories.bulkhead.enabled:false}") final boolean bulkheadEnabled,
+            @Value("${categories.bulkhead.max-concurrent-calls:18}") final int bulkheadMaxConcurrentCalls,
+            @Value("${categories.bulkhead.export.max-concurrent-calls:2}") final int exportBulkheadMaxConcurrentCalls,
+            @Value("${categories.bulkhead.max-wait:50ms}") final Duration bulkheadMaxWait,
+            @Value("${categories.bulkhead.retry-after:1s}") final Duration bulkheadRetryAfter,
+            @Value("${categories.single-flight.enabled:false}") final boolean singleFlightEnabled,
+            @Value("${categories.cache.enabled:false}") final boolean cacheEnabled,
+            @Value("${categories.cache.ttl:5m}") final Duration cacheTtl,
+            @Value("${categories.cache.max-size:10000}") final long cacheMaxSize,
+            @Value("${categories.cache.negative.enabled:false}") final boolean negativeCacheEnabled,
+            @Value("${categories.cache.negative.ttl:30s}") final Duration negativeCacheTtl,
+            @Value("${categories.cache.negative.max-size:100000}") final long negativeCacheMaxSize
+    ) {
+        Objects.requireNonNull(categoryMySQLGateway);
+        Objects.requireNonNull(idGenerator);
+        Objects.requireNonNull(meterRegistry);
+        final var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.useCaseMetrics = new CategoryUseCaseMetrics(registry);
+        CategoryGateway categoryGateway = new CategoryMetricsGateway(categoryMySQLGateway, registry);
+        if (bulkheadEnabled) {
+            final var aBulkhead = bulkhead(
+                    "gateway", bulkheadMaxConcurrentCalls, bulkheadMaxWait, bulkheadRetryAfter, registry);
+            final var exportBulkhead = bulkhead(
+                    "export", exportBulkheadMaxConcurrentCalls, bulkheadMaxWait, bulkheadRetryAfter, registry);
+            categoryGateway = new CategoryBulkheadGateway(categoryGateway, aBulkhead, exportBulkhead);
+        }
+        if (singleFlightEnabled) {
+            categoryGateway = new CategorySingleFlightGateway(categoryGateway, registry);
+        }
+        if (negativeCacheEnabled) {
+            categoryGateway = new CategoryNegativeCacheGateway(
+                    categoryGateway, negativeCacheTtl, negativeCacheMaxSize, registry);
+        }
+        if (cacheEnabled) {
+            categoryGateway = new CategoryCacheGateway(categoryGateway, cacheTtl, cacheMaxSize, registry);
+        }
         this.categoryGateway = categoryGateway;
+        this.idGenerator = idGenerator;
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultCreateCategoryUseCase(this.categoryGateway, this.idGenerator));
+    }
+
+    @Bean
+    public BatchCreateCategoryUseCase batchCreateCategoryUseCase() {
+        return this.useCaseMetrics.timed(new DefaultBatchCreateCategoryUseCase(this.categoryGateway, this.idGenerator));
     }
 
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultUpdateCategoryUseCase(this.categoryGateway));
     }
 
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
-        return new DefaultGetCategoryByIdUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultGetCategoryByIdUseCase(this.categoryGateway));
     }
 
     @Bean
+    @ConditionalOnProperty(name = "categories.list.read-model", havingValue = "aggregate")
     public ListCategoriesUseCase listCategoriesUseCase() {
-        return new DefaultListCategoriesUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultListCategoriesUseCase(this.categoryGateway));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "categories.list.read-model", havingValue = "projection", matchIfMissing = true)
+    public ListCategoriesUseCase projectedListCategoriesUseCase() {
+        return this.useCaseMetrics.timed(new ProjectedListCategoriesUseCase(this.categoryGateway));
+    }
+
+    @Bean
+    public ListCategoryChangesUseCase listCategoryChangesUseCase() {
+        return this.useCaseMetrics.timed(new DefaultListCategoryChangesUseCase(this.categoryGateway));
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return this.useCaseMetrics.timed(new DefaultExportCategoriesUseCase(this.categoryGateway));
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultDeleteCategoryUseCase(this.categoryGateway));
     }
 
     @Bean
     public ActivateCategoryUseCase activateCategoryUseCase() {
-        return new DefaultActivateCategoryUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultActivateCategoryUseCase(this.categoryGateway));
     }
 
     @Bean
     public DeactivateCategoryUseCase deactivateCategoryUseCase() {
-        return new DefaultDeactivateCategoryUseCase(this.categoryGateway);
+        return this.useCaseMetrics.timed(new DefaultDeactivateCategoryUseCase(this.categoryGateway));
+    }
+
+    private static Bulkhead bulkhead(
+            final String aName,
+            final int maxConcurrentCalls,
+            final Duration aMaxWait,
+            final Duration aRetryAfter,
+            final MeterRegistry aMeterRegistry
+    ) {
+        final var rejected = Counter.builder(CategoryBulkheadGateway.REJECTED_CALLS)
+                .description("Database calls rejected because every bulkhead permit was taken")
+                .tag("bulkhead", aName)
+                .register(aMeterRegistry);
+        final var aBulkhead = new Bulkhead(
+                "categories." + aName, maxConcurrentCalls, aMaxWait, aRetryAfter, rejected);
+        Gauge.builder(CategoryBulkheadGateway.IN_FLIGHT_CALLS, aBulkhead, Bulkhead::inFlight)
+                .description("Database calls currently holding a bulkhead permit")
+                .tag("bulkhead", aName)
+                .register(aMeterRegistry);
+        return aBulkhead;
     }
 }
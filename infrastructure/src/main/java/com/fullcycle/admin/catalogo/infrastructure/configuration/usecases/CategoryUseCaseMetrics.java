@@ -0,0 +1,141 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.activate.ActivateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CallMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+public final class CategoryUseCaseMetrics {
+
+    public static final String PREFIX = "categories.usecase";
+    public static final String CALLS = CallMetrics.callsOf(PREFIX);
+    public static final String ERRORS = CallMetrics.errorsOf(PREFIX);
+    public static final String RESULT_SIZE = CallMetrics.resultSizeOf(PREFIX);
+
+    private final CallMetrics metrics;
+
+    public CategoryUseCaseMetrics(final MeterRegistry aMeterRegistry) {
+        Objects.requireNonNull(aMeterRegistry);
+        this.metrics = new CallMetrics(PREFIX, "usecase", "category use case", aMeterRegistry);
+    }
+
+    public CreateCategoryUseCase timed(final CreateCategoryUseCase aUseCase) {
+        return new CreateCategoryUseCase() {
+            @Override
+            public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand aCommand) {
+                return metrics.record("createCategory", () -> aUseCase.execute(aCommand), output -> 1);
+            }
+        };
+    }
+
+    public BatchCreateCategoryUseCase timed(final BatchCreateCategoryUseCase aUseCase) {
+        return new BatchCreateCategoryUseCase() {
+            @Override
+            public Either<Notification, BatchCreateCategoryOutput> execute(final BatchCreateCategoryCommand aCommand) {
+                return metrics.record("batchCreateCategory", () -> aUseCase.execute(aCommand),
+                        output -> output.get().items().size());
+            }
+        };
+    }
+
+    public UpdateCategoryUseCase timed(final UpdateCategoryUseCase aUseCase) {
+        return new UpdateCategoryUseCase() {
+            @Override
+            public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
+                return metrics.record("updateCategory", () -> aUseCase.execute(aCommand), output -> 1);
+            }
+        };
+    }
+
+    public GetCategoryByIdUseCase timed(final GetCategoryByIdUseCase aUseCase) {
+        return new GetCategoryByIdUseCase() {
+            @Override
+            public GetCategoryByIdOutput execute(final String anId) {
+                return metrics.record("getCategoryById", () -> aUseCase.execute(anId), output -> 1);
+            }
+        };
+    }
+
+    public ListCategoriesUseCase timed(final ListCategoriesUseCase aUseCase) {
+        return new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final CategorySearchQuery aQuery) {
+                return metrics.record("listCategories", () -> aUseCase.execute(aQuery));
+            }
+        };
+    }
+
+    public ListCategoryChangesUseCase timed(final ListCategoryChangesUseCase aUseCase) {
+        return new ListCategoryChangesUseCase() {
+            @Override
+            public Pagination<CategoryChangeOutput> execute(final CategoryChangesQuery aQuery) {
+                return metrics.record("listCategoryChanges", () -> aUseCase.execute(aQuery));
+            }
+        };
+    }
+
+    public ExportCategoriesUseCase timed(final ExportCategoriesUseCase aUseCase) {
+        return new ExportCategoriesUseCase() {
+            @Override
+            public Long execute(final ExportCategoriesCommand aCommand) {
+                return metrics.record("exportCategories", () -> aUseCase.execute(aCommand));
+            }
+        };
+    }
+
+    public DeleteCategoryUseCase timed(final DeleteCategoryUseCase aUseCase) {
+        return new DeleteCategoryUseCase() {
+            @Override
+            public void execute(final String anId) {
+                metrics.run("deleteCategory", () -> aUseCase.execute(anId));
+            }
+        };
+    }
+
+    public ActivateCategoryUseCase timed(final ActivateCategoryUseCase aUseCase) {
+        return new ActivateCategoryUseCase() {
+            @Override
+            public Either<Notification, ActivateCategoryOutput> execute(final ActivateCategoryCommand aCommand) {
+                return metrics.record("activateCategory", () -> aUseCase.execute(aCommand), output -> 1);
+            }
+        };
+    }
+
+    public DeactivateCategoryUseCase timed(final DeactivateCategoryUseCase aUseCase) {
+        return new DeactivateCategoryUseCase() {
+            @Override
+            public Either<Notification, DeactivateCategoryOutput> execute(final DeactivateCategoryCommand aCommand) {
+                return metrics.record("deactivateCategory", () -> aUseCase.execute(aCommand), output -> 1);
+            }
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+
+public interface EventPublisher {
+
+    void publish(List<OutboxMessage> aMessages);
+}
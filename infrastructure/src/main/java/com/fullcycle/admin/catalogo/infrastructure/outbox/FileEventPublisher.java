@@ -0,0 +1,36 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+
+public class FileEventPublisher implements EventPublisher {
+
+    private final Path file;
+
+    public FileEventPublisher(final Path aFile) {
+        this.file = Objects.requireNonNull(aFile);
+    }
+
+    @Override
+    public synchronized void publish(final List<OutboxMessage> aMessages) {
+        final var lines = new StringBuilder();
+        aMessages.forEach(aMessage -> lines.append(Json.writeValueAsString(aMessage)).append('\n'));
+        try {
+            if (this.file.getParent() != null) {
+                Files.createDirectories(this.file.getParent());
+            }
+            Files.writeString(this.file, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
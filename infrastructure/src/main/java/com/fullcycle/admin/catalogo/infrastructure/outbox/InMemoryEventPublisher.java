@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class InMemoryEventPublisher implements EventPublisher {
+
+    private final List<OutboxMessage> published = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final List<OutboxMessage> aMessages) {
+        this.published.addAll(aMessages);
+    }
+
+    public List<OutboxMessage> published() {
+        return List.copyOf(published);
+    }
+
+    public void clear() {
+        this.published.clear();
+    }
+}
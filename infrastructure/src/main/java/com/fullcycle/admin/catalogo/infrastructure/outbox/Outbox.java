@@ -0,0 +1,47 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.domain.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.identifier.IdGenerator;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class Outbox {
+
+    private final IdGenerator idGenerator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Outbox(final IdGenerator idGenerator) {
+        Objects.requireNonNull(idGenerator);
+        this.idGenerator = idGenerator;
+    }
+
+    // MANDATORY: o evento só pode ser gravado na mesma transação da alteração que o originou.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(final String anAggregateType, final List<? extends DomainEvent> anEvents) {
+        if (anEvents.isEmpty()) {
+            return;
+        }
+        for (final var anEvent : anEvents) {
+            entityManager.persist(new OutboxEventJpaEntity(
+                    this.idGenerator.next().toString(),
+                    anAggregateType,
+                    anEvent.aggregateId(),
+                    anEvent.type(),
+                    Json.writeValueAsString(anEvent),
+                    anEvent.occurredOn()
+            ));
+        }
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+public record OutboxMessage(
+        String id,
+        String aggregateType,
+        String aggregateId,
+        String type,
+        @JsonRawValue String payload,
+        Instant occurredOn
+) {
+}
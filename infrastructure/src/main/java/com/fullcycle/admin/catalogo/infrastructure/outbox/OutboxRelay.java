@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+public class OutboxRelay {
+
+    public static final String PUBLISHED = "outbox.relay.published";
+    public static final String FAILURES = "outbox.relay.failures";
+    public static final String LAG = "outbox.relay.lag";
+    public static final String BATCH = "outbox.relay.batch";
+
+    private final OutboxEventRepository repository;
+    private final EventPublisher publisher;
+    private final int batchSize;
+    private final TransactionOperations transaction;
+    private final Clock clock;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer lag;
+    private final Timer batches;
+
+    public OutboxRelay(
+            final OutboxEventRepository repository,
+            final EventPublisher publisher,
+            final int batchSize,
+            final TransactionOperations aTransaction,
+            final Clock aClock,
+            final MeterRegistry aMeterRegistry
+    ) {
+        Objects.requireNonNull(repository);
+        Objects.requireNonNull(publisher);
+        Objects.requireNonNull(aTransaction);
+        Objects.requireNonNull(aClock);
+        Objects.requireNonNull(aMeterRegistry);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("'batchSize' should be positive but was %d".formatted(batchSize));
+        }
+        this.repository = repository;
+        this.publisher = publisher;
+        this.batchSize = batchSize;
+        this.transaction = aTransaction;
+        this.clock = aClock;
+        this.published = Counter.builder(PUBLISHED)
+                .description("Outbox events handed to the publisher")
+                .register(aMeterRegistry);
+        this.failures = Counter.builder(FAILURES)
+                .description("Outbox batches the publisher failed to accept")
+                .register(aMeterRegistry);
+        this.lag = Timer.builder(LAG)
+                .description("Time between an event occurring and its publication")
+                .publishPercentiles(0.5, 0.99)
+                .register(aMeterRegistry);
+        this.batches = Timer.builder(BATCH)
+                .description("Time to publish and remove one outbox batch")
+                .register(aMeterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:1000}")
+    public void relay() {
+        drain();
+    }
+
+    public long drain() {
+        long total = 0;
+        while (true) {
+            final int relayed = this.transaction.execute(status -> relayNextBatch());
+            total += relayed;
+            if (relayed < this.batchSize) {
+                return total;
+            }
+        }
+    }
+
+    // O lote fica travado do claim até o commit, então vários relays (um por instância) drenam o outbox em paralelo
+    // sem publicar a mesma linha duas vezes nem disputar o delete.
+    private int relayNextBatch() {
+        final var aBatch = this.repository.claimOldest(PageRequest.of(0, this.batchSize));
+        if (!aBatch.isEmpty()) {
+            this.batches.record(() -> publish(aBatch));
+        }
+        return aBatch.size();
+    }
+
+    // Entrega "at-least-once": as linhas só saem do outbox depois que o publisher aceita o lote, então uma
+    // falha entre o publish e o commit reenvia o lote; os consumidores devem deduplicar pelo id da mensagem.
+    private void publish(final List<OutboxEventJpaEntity> aBatch) {
+        final var messages = aBatch.stream()
+                .map(OutboxEventJpaEntity::toMessage)
+                .toList();
+        try {
+            this.publisher.publish(messages);
+        } catch (final RuntimeException e) {
+            this.failures.increment();
+            throw e;
+        }
+        this.repository.removeAllById(messages.stream().map(OutboxMessage::id).toList());
+
+        final var now = this.clock.instant();
+        messages.forEach(aMessage -> this.lag.record(Duration.between(aMessage.occurredOn(), now)));
+        this.published.increment(messages.size());
+    }
+}
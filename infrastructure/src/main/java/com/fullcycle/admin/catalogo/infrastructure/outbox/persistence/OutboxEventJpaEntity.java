@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.fullcycle.admin.catalogo.infrastructure.outbox.OutboxMessage;
+import com.fullcycle.admin.catalogo.infrastructure.utils.UuidBinaryConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "outbox_event")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @Convert(converter = UuidBinaryConverter.class)
+    private String id;
+
+    @Column(name = "aggregate_type")
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private String aggregateId;
+
+    @Column(name = "event_type")
+    private String eventType;
+
+    private String payload;
+
+    @Column(name = "occurred_at")
+    private Instant occurredAt;
+
+    // Gerado pelo banco na ordem dos inserts; o relay ordena por ele porque o id depende do relógio de cada instância.
+    @Column(name = "sequence_number", insertable = false, updatable = false)
+    private Long sequenceNumber;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    public OutboxEventJpaEntity(
+            final String id,
+            final String aggregateType,
+            final String aggregateId,
+            final String eventType,
+            final String payload,
+            final Instant occurredAt
+    ) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(
+                getId(),
+                getAggregateType(),
+                getAggregateId(),
+                getEventType(),
+                getPayload(),
+                getOccurredAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getAggregateType() {
+        return aggregateType;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public Long getSequenceNumber() {
+        return sequenceNumber;
+    }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, String> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED (timeout -2): cada relay reivindica um lote que os outros pulam até o commit,
+    // então só faz sentido dentro da transação que publica e remove o lote.
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("select e from OutboxEventJpaEntity e order by e.sequenceNumber")
+    List<OutboxEventJpaEntity> claimOldest(Pageable page);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from OutboxEventJpaEntity e where e.id in :ids")
+    int removeAllById(@Param("ids") Collection<String> anIds);
+}
@@ -0,0 +1,115 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+public final class AdaptiveConcurrencyLimit {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final Duration retryAfter;
+    private final Counter rejected;
+    private final LongSupplier nanoTime;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AdaptiveConcurrencyLimit(
+            final String aName,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration aLatencyThreshold,
+            final double backoffRatio,
+            final Duration aRetryAfter,
+            final Counter rejected,
+            final LongSupplier aNanoTime
+    ) {
+        Objects.requireNonNull(aName);
+        Objects.requireNonNull(aLatencyThreshold);
+        Objects.requireNonNull(aRetryAfter);
+        Objects.requireNonNull(rejected);
+        Objects.requireNonNull(aNanoTime);
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "limits should satisfy 1 <= min <= initial <= max but were %d, %d and %d"
+                            .formatted(minLimit, initialLimit, maxLimit));
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(
+                    "'backoffRatio' should be between 0 and 1 but was %s".formatted(backoffRatio));
+        }
+        this.name = aName;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = aLatencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.retryAfter = aRetryAfter;
+        this.rejected = rejected;
+        this.nanoTime = aNanoTime;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    public Permit acquire() {
+        while (true) {
+            final var current = this.inFlight.get();
+            final var currentLimit = this.limit.get();
+            if (current >= currentLimit) {
+                this.rejected.increment();
+                throw new OverloadedException(
+                        "'%s' is at its limit of %d concurrent requests".formatted(this.name, currentLimit),
+                        this.retryAfter);
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1, this.nanoTime.getAsLong());
+            }
+        }
+    }
+
+    public int limit() {
+        return this.limit.get();
+    }
+
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    // AIMD: cresce de um em um enquanto as respostas são rápidas e a janela está sendo usada;
+    // ao primeiro sinal de saturação (falha ou latência acima do limiar) corta pela razão de backoff.
+    private void onSample(final Permit aPermit, final boolean dropped) {
+        this.inFlight.decrementAndGet();
+        final var latency = this.nanoTime.getAsLong() - aPermit.startedAt;
+        if (dropped || latency > this.latencyThresholdNanos) {
+            this.limit.updateAndGet(current -> Math.max(this.minLimit, (int) (current * this.backoffRatio)));
+        } else if (aPermit.inFlight * 2 >= this.limit.get()) {
+            this.limit.updateAndGet(current -> Math.min(this.maxLimit, current + 1));
+        }
+    }
+
+    public final class Permit {
+
+        private final int inFlight;
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(final int inFlight, final long startedAt) {
+            this.inFlight = inFlight;
+            this.startedAt = startedAt;
+        }
+
+        public void release(final boolean dropped) {
+            if (this.released) {
+                return;
+            }
+            this.released = true;
+            onSample(this, dropped);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import io.micrometer.core.instrument.Counter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    public Bulkhead(
+            final String aName,
+            final int maxConcurrentCalls,
+            final Duration aMaxWait,
+            final Duration aRetryAfter,
+            final Counter rejected
+    ) {
+        Objects.requireNonNull(aName);
+        Objects.requireNonNull(aMaxWait);
+        Objects.requireNonNull(aRetryAfter);
+        Objects.requireNonNull(rejected);
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException(
+                    "'maxConcurrentCalls' should be positive but was %d".formatted(maxConcurrentCalls));
+        }
+        this.name = aName;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxWaitNanos = aMaxWait.toNanos();
+        this.retryAfter = aRetryAfter;
+        this.rejected = rejected;
+    }
+
+    public <V> V execute(final Supplier<V> aCall) {
+        acquire();
+        try {
+            return aCall.get();
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    public void run(final Runnable aCall) {
+        execute(() -> {
+            aCall.run();
+            return null;
+        });
+    }
+
+    public int inFlight() {
+        return this.maxConcurrentCalls - this.permits.availablePermits();
+    }
+
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    private void acquire() {
+        try {
+            if (this.permits.tryAcquire(this.maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        this.rejected.increment();
+        throw new OverloadedException(
+                "'%s' is at its limit of %d concurrent calls".formatted(this.name, this.maxConcurrentCalls),
+                this.retryAfter);
+    }
+}
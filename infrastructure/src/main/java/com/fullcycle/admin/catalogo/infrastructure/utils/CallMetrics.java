@@ -0,0 +1,144 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+public final class CallMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String NOTIFICATION = "notification";
+    public static final String EXCEPTION = "exception";
+
+    private final String prefix;
+    private final String tag;
+    private final String description;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Key, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Key, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DistributionSummary> sizeSummaries = new ConcurrentHashMap<>();
+
+    public CallMetrics(
+            final String aPrefix,
+            final String aTag,
+            final String aDescription,
+            final MeterRegistry aMeterRegistry
+    ) {
+        Objects.requireNonNull(aPrefix);
+        Objects.requireNonNull(aTag);
+        Objects.requireNonNull(aDescription);
+        Objects.requireNonNull(aMeterRegistry);
+        this.prefix = aPrefix;
+        this.tag = aTag;
+        this.description = aDescription;
+        this.registry = aMeterRegistry;
+    }
+
+    public static String callsOf(final String aPrefix) {
+        return aPrefix + ".calls";
+    }
+
+    public static String errorsOf(final String aPrefix) {
+        return aPrefix + ".errors";
+    }
+
+    public static String resultSizeOf(final String aPrefix) {
+        return aPrefix + ".result.size";
+    }
+
+    public <V> V record(final String aName, final Supplier<V> aCall) {
+        return record(aName, aCall, CallMetrics::sizeOf);
+    }
+
+    public <V> V record(final String aName, final Supplier<V> aCall, final ToLongFunction<V> aSize) {
+        final var sample = Timer.start(this.registry);
+        final V result;
+        try {
+            result = aCall.get();
+        } catch (final RuntimeException ex) {
+            sample.stop(timer(aName, EXCEPTION));
+            errorCounter(aName, ex.getClass().getSimpleName()).increment();
+            throw ex;
+        }
+        // Um Left(Notification) não é exceção, mas é um erro de negócio: já fica contado no timer com outcome=notification.
+        if (result instanceof Either<?, ?> either && either.isLeft()) {
+            sample.stop(timer(aName, NOTIFICATION));
+            return result;
+        }
+        sample.stop(timer(aName, SUCCESS));
+        final var size = aSize.applyAsLong(result);
+        if (size >= 0) {
+            sizeSummary(aName).record(size);
+        }
+        return result;
+    }
+
+    public void run(final String aName, final Runnable aCall) {
+        record(aName, () -> {
+            aCall.run();
+            return null;
+        });
+    }
+
+    // O register() do Micrometer procura o meter num mapa sincronizado a cada chamada; como os nomes e os
+    // resultados possíveis são poucos, cada meter é registrado uma vez e reaproveitado a partir daqui.
+    private Timer timer(final String aName, final String anOutcome) {
+        return this.timers.computeIfAbsent(new Key(aName, anOutcome), key -> Timer.builder(callsOf(this.prefix))
+                .description("Latency of the " + this.description + " calls")
+                .tag(this.tag, aName)
+                .tag("outcome", anOutcome)
+                .publishPercentileHistogram()
+                .register(this.registry));
+    }
+
+    private Counter errorCounter(final String aName, final String anError) {
+        return this.errorCounters.computeIfAbsent(new Key(aName, anError), key -> Counter.builder(errorsOf(this.prefix))
+                .description("Exceptions thrown by the " + this.description + " calls, by error type")
+                .tag(this.tag, aName)
+                .tag("error", anError)
+                .register(this.registry));
+    }
+
+    private DistributionSummary sizeSummary(final String aName) {
+        return this.sizeSummaries.computeIfAbsent(aName, key -> DistributionSummary.builder(resultSizeOf(this.prefix))
+                .description("Items returned or affected by the " + this.description + " calls")
+                .tag(this.tag, aName)
+                .publishPercentileHistogram()
+                .register(this.registry));
+    }
+
+    public static long sizeOf(final Object aResult) {
+        if (aResult instanceof Either<?, ?> either) {
+            return sizeOf(either.get());
+        }
+        if (aResult instanceof Pagination<?> aPage) {
+            return aPage.items().size();
+        }
+        if (aResult instanceof Collection<?> aCollection) {
+            return aCollection.size();
+        }
+        if (aResult instanceof Optional<?> anOptional) {
+            return anOptional.isPresent() ? 1 : 0;
+        }
+        if (aResult instanceof Boolean aBoolean) {
+            return aBoolean ? 1 : 0;
+        }
+        if (aResult instanceof Long aLong) {
+            return aLong;
+        }
+        return -1;
+    }
+
+    private record Key(String name, String value) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+
+    public SingleFlight(final Counter collapsed) {
+        Objects.requireNonNull(collapsed);
+        this.collapsed = collapsed;
+    }
+
+    public V execute(final K aKey, final Supplier<V> aCall) {
+        final var aFlight = new CompletableFuture<V>();
+        final var anInFlight = this.inFlight.putIfAbsent(aKey, aFlight);
+        if (anInFlight != null) {
+            this.collapsed.increment();
+            return join(anInFlight);
+        }
+        try {
+            final var aResult = aCall.get();
+            aFlight.complete(aResult);
+            return aResult;
+        } catch (final RuntimeException | Error ex) {
+            aFlight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(aKey, aFlight);
+        }
+    }
+
+    private V join(final CompletableFuture<V> aFlight) {
+        try {
+            return aFlight.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
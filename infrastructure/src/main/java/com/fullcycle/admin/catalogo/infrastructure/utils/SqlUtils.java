@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+public final class SqlUtils {
+
+    private SqlUtils() {
+    }
+
+    public static String like(final String term) {
+        return "%" + term + "%";
+    }
+
+    public static String phrase(final String term) {
+        return "\"" + withoutBooleanOperators(term) + "\"";
+    }
+
+    // Remove os operadores do modo booleano; um termo só com operadores fica vazio.
+    public static String withoutBooleanOperators(final String term) {
+        return term.replaceAll("[+\\-<>()~*\"@]", " ").trim();
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    private static final int UUID_LENGTH = 36;
+    private static final int BINARY_LENGTH = 16;
+
+    public static boolean isConvertible(final String aValue) {
+        if (aValue == null || aValue.length() != UUID_LENGTH) {
+            return false;
+        }
+        try {
+            return UUID.fromString(aValue).toString().equalsIgnoreCase(aValue);
+        } catch (final IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static byte[] toBinary(final String aValue) {
+        if (!isConvertible(aValue)) {
+            throw new IllegalArgumentException("'%s' is not a UUID".formatted(aValue));
+        }
+        final var uuid = UUID.fromString(aValue);
+        return ByteBuffer.allocate(BINARY_LENGTH)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBinary(final byte[] aValue) {
+        if (aValue.length != BINARY_LENGTH) {
+            throw new IllegalArgumentException("Expected %d bytes but got %d".formatted(BINARY_LENGTH, aValue.length));
+        }
+        final var buffer = ByteBuffer.wrap(aValue);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String anAttribute) {
+        return anAttribute == null ? null : toBinary(anAttribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] aDbData) {
+        return aDbData == null ? null : fromBinary(aDbData);
+    }
+}
@@ -0,0 +1 @@
+DROP TABLE category_tombstone;
\ No newline at end of file
@@ -0,0 +1,7 @@
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
+
+CREATE INDEX idx_category_active_name_id ON category (active, name, id);
+CREATE INDEX idx_category_active_created_at_id ON category (active, created_at, id);
+CREATE INDEX idx_category_active_updated_at_id ON category (active, updated_at, id);
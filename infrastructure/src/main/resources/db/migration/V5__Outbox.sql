@@ -0,0 +1,9 @@
+CREATE TABLE outbox_event (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id VARCHAR(36) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    sequence_number BIGINT AUTO_INCREMENT NOT NULL UNIQUE
+);
@@ -0,0 +1,6 @@
+CREATE TABLE category_tombstone (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    deleted_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_category_tombstone_deleted_at_id ON category_tombstone (deleted_at, id);
@@ -99,7 +99,7 @@ class UpdateCategoryUseCaseIT {
             assertEquals(expectedErrorMessage, notification.firstError().message());
             assertEquals(expectedErrorCount, notification.getErrors().size());
 
-            verify(categoryGateway, never()).update(any(Category.class));
+            verify(categoryGateway, never()).applyChange(any());
         }
     }
 
@@ -148,7 +148,7 @@ class UpdateCategoryUseCaseIT {
                     .with(expectedId.getValue(), expectedName, expectedDescription);
 
             doThrow(new IllegalStateException(GATEWAY_ERROR))
-                    .when(categoryGateway).update(any(Category.class));
+                    .when(categoryGateway).applyChange(any());
 
             assertEquals(0, categoryRepository.count());
             save(aCategory);
@@ -18,10 +18,14 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -165,7 +169,7 @@ class CategoryE2ETest {
         }
 
         @Test
-        void As_a_Catalog_Admin_I_Should_be_able_to_sort_all_categories_by_descriptionDesc() throws Exception {
+        void As_a_Catalog_Admin_I_Should_be_able_to_sort_all_categories_by_nameDesc() throws Exception {
             assertTrue(MYSQL_CONTAINER.isRunning());
             assertEquals(0, categoryRepository.count());
 
@@ -183,16 +187,27 @@ class CategoryE2ETest {
             final var expectedTotal = 3;
 
             // When & Then
-            listCategories(expectedPage, expectedPerPage, "", "description", "desc")
+            listCategories(expectedPage, expectedPerPage, "", "name", "desc")
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.current_page", is(equalTo(expectedPage))))
                     .andExpect(jsonPath("$.per_page", is(equalTo(expectedPerPage))))
                     .andExpect(jsonPath("$.total", is(equalTo(expectedTotal))))
                     .andExpect(jsonPath("$.items", hasSize(expectedPerPage)))
-                    .andExpect(jsonPath("$.items[0].name", is(equalTo(aNameDocumentarios))))
+                    .andExpect(jsonPath("$.items[0].name", is(equalTo(aNameSeries))))
                     .andExpect(jsonPath("$.items[1].name", is(equalTo(aNameFilmes))))
-                    .andExpect(jsonPath("$.items[2].name", is(equalTo(aNameSeries))));
+                    .andExpect(jsonPath("$.items[2].name", is(equalTo(aNameDocumentarios))));
+
+        }
 
+        @Test
+        void As_a_Catalog_Admin_I_Should_not_be_able_to_sort_categories_by_an_unindexed_column() throws Exception {
+            assertTrue(MYSQL_CONTAINER.isRunning());
+
+            // When & Then
+            listCategories(0, 3, "", "description", "desc")
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.errors[0].message",
+                            is(equalTo("'sort' must be one of [name, createdAt, updatedAt, relevance]"))));
         }
     }
 
@@ -386,6 +401,33 @@ class CategoryE2ETest {
         }
     }
 
+    @Nested
+    @DisplayName("Export the catalog")
+    class ExportCategories {
+
+        @Test
+        void As_a_Catalog_Consumer_I_Should_be_able_to_stream_every_category_as_ndjson() throws Exception {
+            assertTrue(MYSQL_CONTAINER.isRunning());
+            assertEquals(0, categoryRepository.count());
+
+            // Given
+            final var filmes = givenACategory("Filmes", null);
+            final var series = givenACategory("Séries", null);
+            final var documentarios = givenACategory("Documentários", null);
+
+            // When
+            final var actualAll = exportCategories(null);
+            final var since = retrieveACategory(series.getValue()).updatedAt();
+            final var actualSince = exportCategories(since.toString());
+
+            // Then
+            assertEquals(List.of(filmes.getValue(), series.getValue(), documentarios.getValue()),
+                    actualAll.stream().map(GetCategoryByIdResponse::id).toList());
+            assertEquals(List.of(series.getValue(), documentarios.getValue()),
+                    actualSince.stream().map(GetCategoryByIdResponse::id).toList());
+        }
+    }
+
     private CategoryID givenACategory(final String aName, final String aDescription) throws Exception {
         final var aRequestBody = new CreateCategoryRequest(aName, aDescription);
 
@@ -415,6 +457,26 @@ class CategoryE2ETest {
         return Json.readValue(json, GetCategoryByIdResponse.class);
     }
 
+    private List<GetCategoryByIdResponse> exportCategories(final String since) throws Exception {
+        final var aRequest = get("/categories/export")
+                .accept(MediaType.APPLICATION_NDJSON);
+        if (since != null) {
+            aRequest.queryParam("since", since);
+        }
+
+        final var asyncResult = this.mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        final var ndjson = this.mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        return ndjson.lines()
+                .map(line -> Json.readValue(line, GetCategoryByIdResponse.class))
+                .toList();
+    }
+
     private ResultActions listCategories(final int page, final int perPage, final String search) throws Exception {
         final String sort = "";
         final String direction = "";
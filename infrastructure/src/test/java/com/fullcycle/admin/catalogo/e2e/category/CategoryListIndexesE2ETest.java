@@ -0,0 +1,167 @@
+package com.fullcycle.admin.catalogo.e2e.category;
+
+import com.fullcycle.admin.catalogo.E2ETest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryListPlan;
+import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@E2ETest
+@Testcontainers
+@Import(CategoryListIndexesE2ETest.CapturedStatementsConfig.class)
+class CategoryListIndexesE2ETest {
+
+    private static final int CATEGORIES = 1_000;
+    private static final int PER_PAGE = 10;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CapturedStatements capturedStatements;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER = new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    void seed() {
+        categoryRepository.insertAll(IntStream.range(0, CATEGORIES)
+                .mapToObj(this::aCategory)
+                .map(CategoryJpaEntity::from)
+                .toList());
+        jdbcTemplate.execute("ANALYZE TABLE category");
+    }
+
+    @Nested
+    @DisplayName("Explain list queries")
+    class ExplainListQueries {
+
+        @ParameterizedTest
+        @CsvSource({
+                "name,asc,",
+                "name,desc,",
+                "createdAt,asc,",
+                "createdAt,desc,",
+                "updatedAt,asc,",
+                "updatedAt,desc,",
+                "name,asc,true",
+                "name,desc,false",
+                "createdAt,asc,true",
+                "createdAt,desc,false",
+                "updatedAt,asc,true",
+                "updatedAt,desc,false",
+        })
+        void Given_a_whitelisted_sort_When_explains_the_generated_list_query_Then_should_not_use_filesort(
+                final String sort,
+                final String direction,
+                final Boolean active
+        ) {
+            // Given
+            final var aQuery = new CategorySearchQuery(0, PER_PAGE, "", sort, direction, null, CountMode.NONE, active);
+            final var aPlan = CategoryListPlan.of(aQuery.sort(), aQuery.direction(), aQuery.filter());
+            capturedStatements.clear();
+            categoryGateway.findAll(aQuery);
+            final var sql = capturedStatements.selectOf(aPlan);
+
+            // When
+            final var actualPlan = jdbcTemplate.queryForList("EXPLAIN " + sql, limitParameters(sql));
+
+            // Then
+            assertFalse(actualPlan.isEmpty());
+            actualPlan.forEach(row -> {
+                final var extra = String.valueOf(row.get("Extra"));
+                assertFalse(extra.contains("filesort"), () -> "%s%n%s".formatted(sql, row));
+                assertNotNull(row.get("key"), () -> "%s%n%s".formatted(sql, row));
+            });
+        }
+    }
+
+    // Na primeira página o Hibernate gera só "limit ?"; nas seguintes, "limit ?,?" com o offset antes.
+    private static Object[] limitParameters(final String sql) {
+        final var parameters = sql.chars().filter(c -> c == '?').count();
+        return parameters == 1 ? new Object[]{PER_PAGE + 1} : new Object[]{0, PER_PAGE + 1};
+    }
+
+    private Category aCategory(final int anIndex) {
+        final var aCategory = Category.newCategory("Category %04d".formatted(anIndex), "Description " + anIndex);
+        return anIndex % 2 == 0 ? aCategory : aCategory.deactivate();
+    }
+
+    static class CapturedStatements implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(final String sql) {
+            this.statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            this.statements.clear();
+        }
+
+        String selectOf(final CategoryListPlan aPlan) {
+            final var selects = this.statements.stream()
+                    .filter(sql -> sql.startsWith("select") && sql.contains(" order by "))
+                    .toList();
+            assertEquals(1, selects.size(), () -> "expected one list select for %s %s %s, got %s"
+                    .formatted(aPlan.sort(), aPlan.direction(), aPlan.filter(), this.statements));
+            return selects.get(0);
+        }
+    }
+
+    @TestConfiguration
+    static class CapturedStatementsConfig {
+
+        @Bean
+        CapturedStatements capturedStatements() {
+            return new CapturedStatements();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(final CapturedStatements aCapturedStatements) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, aCapturedStatements);
+        }
+    }
+}
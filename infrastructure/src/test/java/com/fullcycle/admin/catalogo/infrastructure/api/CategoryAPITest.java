@@ -8,10 +8,18 @@ import com.fullcycle.admin.catalogo.application.category.activate.ActivateCatego
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryItemOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.deactivate.DeactivateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.CategoryChangeOutput;
+import com.fullcycle.admin.catalogo.application.category.retrieve.changes.ListCategoryChangesUseCase;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.fullcycle.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
 import com.fullcycle.admin.catalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
@@ -20,11 +28,18 @@ import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCo
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySort;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.pagination.SortDirection;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
 import com.fullcycle.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -32,15 +47,20 @@ import com.fullcycle.admin.catalogo.infrastructure.category.models.UpdateCategor
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -60,6 +80,9 @@ class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
@@ -78,6 +101,12 @@ class CategoryAPITest {
     @MockBean
     private DeactivateCategoryUseCase deactivateCategoryUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ListCategoryChangesUseCase listCategoryChangesUseCase;
+
     @Nested
     @DisplayName("Create with a valid input")
     class CreateWithValidInput {
@@ -190,6 +219,82 @@ class CategoryAPITest {
         }
     }
 
+    @Nested
+    @DisplayName("Create a batch of categories")
+    class CreateBatch {
+
+        @Test
+        void Given_valid_inputs_When_calls_create_batch_Then_should_return_created_with_every_id()
+                throws Exception {
+            // Given
+            final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var series = Category.newCategory("Séries", "A categoria menos assistida");
+            final var anInput = List.of(
+                    new CreateCategoryRequest(filmes.getName(), filmes.getDescription()),
+                    new CreateCategoryRequest(series.getName(), series.getDescription())
+            );
+
+            when(batchCreateCategoryUseCase.execute(any(BatchCreateCategoryCommand.class)))
+                    .thenReturn(Right(BatchCreateCategoryOutput.from(List.of(
+                            BatchCreateCategoryItemOutput.created(0, filmes),
+                            BatchCreateCategoryItemOutput.created(1, series)
+                    ))));
+
+            final var request = post("/categories/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(anInput));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].index", equalTo(0)))
+                    .andExpect(jsonPath("$.items[0].id", equalTo(filmes.getId().getValue())))
+                    .andExpect(jsonPath("$.items[1].id", equalTo(series.getId().getValue())));
+            verify(batchCreateCategoryUseCase, times(1))
+                    .execute(argThat(command -> command.items().size() == 2
+                            && Objects.equals("Filmes", command.items().get(0).name())
+                            && Objects.equals("Séries", command.items().get(1).name())));
+        }
+
+        @Test
+        void Given_an_invalid_item_When_calls_create_batch_Then_should_return_multi_status_with_item_errors()
+                throws Exception {
+            // Given
+            final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedErrorMessage = "'name' should not be null";
+            final var anInput = List.of(
+                    new CreateCategoryRequest(filmes.getName(), filmes.getDescription()),
+                    new CreateCategoryRequest(null, "A categoria menos assistida")
+            );
+
+            when(batchCreateCategoryUseCase.execute(any(BatchCreateCategoryCommand.class)))
+                    .thenReturn(Right(BatchCreateCategoryOutput.from(List.of(
+                            BatchCreateCategoryItemOutput.created(0, filmes),
+                            BatchCreateCategoryItemOutput.rejected(1, List.of(new Error(expectedErrorMessage)))
+                    ))));
+
+            final var request = post("/categories/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(anInput));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isMultiStatus())
+                    .andExpect(jsonPath("$.items[0].id", equalTo(filmes.getId().getValue())))
+                    .andExpect(jsonPath("$.items[1].id", nullValue()))
+                    .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage)));
+        }
+    }
+
     @Nested
     @DisplayName("Get category with a valid id")
     class GetCategoryWithValidId {
@@ -258,6 +363,65 @@ class CategoryAPITest {
         }
     }
 
+    @Nested
+    @DisplayName("Get a category while the database is overloaded")
+    class GetCategoryWhileOverloaded {
+
+        @Test
+        void Given_the_database_bulkhead_is_full_When_calls_find_by_id_Then_should_return_service_unavailable_with_retry_after()
+                throws Exception {
+            // Given
+            final var expectedId = "123";
+            final var expectedErrorMessage = "'categories.gateway' is at its limit of 20 concurrent calls";
+
+            final var request = get("/categories/{id}", expectedId)
+                    .contentType(MediaType.APPLICATION_JSON);
+
+            when(getCategoryByIdUseCase.execute(eq(expectedId)))
+                    .thenThrow(new OverloadedException(expectedErrorMessage, Duration.ofSeconds(2)));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Create a category while the database is overloaded")
+    class CreateCategoryWhileOverloaded {
+
+        @Test
+        void Given_the_database_bulkhead_is_full_When_calls_create_category_Then_should_return_service_unavailable_with_retry_after()
+                throws Exception {
+            // Given
+            final var expectedErrorMessage = "'categories.gateway' is at its limit of 20 concurrent calls";
+            final var anInput = new CreateCategoryRequest("Filmes", "A categoria mais assistida");
+
+            when(createCategoryUseCase.execute(any(CreateCategoryCommand.class)))
+                    .thenThrow(new OverloadedException(expectedErrorMessage, Duration.ofSeconds(2)));
+
+            final var request = post("/categories")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(mapper.writeValueAsString(anInput));
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+        }
+    }
+
     @Nested
     @DisplayName("Update with a valid input")
     class UpdateWithValidInput {
@@ -487,7 +651,7 @@ class CategoryAPITest {
             final var expectedPage = 0;
             final var expectedPerPage = 10;
             final var expectedTerms = "movies";
-            final var expectedSort = "description";
+            final var expectedSort = "createdAt";
             final var expectedDirection = "desc";
             final var expectedItemsCount = 1;
             final var expectedTotal = 1;
@@ -525,10 +689,252 @@ class CategoryAPITest {
             verify(listCategoriesUseCase, times(1)).execute(argThat(query -> {
                 return Objects.equals(expectedPage, query.page())
                         && Objects.equals(expectedPerPage, query.perPage())
-                        && Objects.equals(expectedDirection, query.direction())
-                        && Objects.equals(expectedSort, query.sort())
+                        && SortDirection.from(expectedDirection) == query.direction()
+                        && CategorySort.from(expectedSort) == query.sort()
                         && Objects.equals(expectedTerms, query.terms());
             }));
         }
+
+        @Test
+        void Given_an_after_cursor_When_calls_list_categories_Then_should_forward_cursor_and_return_next()
+                throws Exception {
+            // Given
+            final var aCategory = Category.newCategory("Movies", " ");
+            final var expectedAfter = "bmFtZQphc2MKMTIzCk1vdmllcw";
+            final var expectedNext = "bmFtZQphc2MKNDU2ClNlcmllcw";
+            final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+            when(listCategoriesUseCase.execute(any(CategorySearchQuery.class)))
+                    .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNext));
+
+            final var request = get("/categories")
+                    .queryParam("perPage", "1")
+                    .queryParam("after", expectedAfter)
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                    .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                    .andExpect(jsonPath("$.items", hasSize(1)));
+            verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                    Objects.equals(expectedAfter, query.after())
+                            && CategorySort.NAME == query.sort()
+                            && SortDirection.ASC == query.direction()));
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories choosing sort and filter")
+    class ListCategoriesChoosingSortAndFilter {
+
+        @Test
+        void Given_a_sort_outside_the_indexed_keys_When_calls_list_categories_Then_should_return_unprocessable_entity()
+                throws Exception {
+            // Given
+            final var expectedErrorMessage = "'sort' must be one of [name, createdAt, updatedAt, relevance]";
+
+            final var request = get("/categories")
+                    .queryParam("sort", "description")
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.errors", hasSize(1)))
+                    .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+            verify(listCategoriesUseCase, never()).execute(any());
+        }
+
+        @Test
+        void Given_an_active_filter_When_calls_list_categories_Then_should_forward_it_to_the_query()
+                throws Exception {
+            // Given
+            when(listCategoriesUseCase.execute(any(CategorySearchQuery.class)))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var request = get("/categories")
+                    .queryParam("active", "true")
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response.andExpect(status().isOk());
+            verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                    CategoryFilter.ACTIVE == query.filter()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Export categories as NDJSON")
+    class ExportCategories {
+
+        @Test
+        void Given_stored_categories_When_calls_export_Then_should_stream_one_json_per_line()
+                throws Exception {
+            // Given
+            final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var series = Category.newCategory("Séries", null).deactivate();
+            final var expectedSince = Instant.parse("2024-01-01T00:00:00Z");
+
+            when(exportCategoriesUseCase.execute(any(ExportCategoriesCommand.class)))
+                    .thenAnswer(invocation -> {
+                        final ExportCategoriesCommand aCommand = invocation.getArgument(0);
+                        aCommand.consumer().accept(CategoryChangeOutput.from(filmes));
+                        aCommand.consumer().accept(CategoryChangeOutput.from(series));
+                        return 2L;
+                    });
+
+            final var request = get("/categories/export")
+                    .queryParam("since", expectedSince.toString())
+                    .accept(MediaType.APPLICATION_NDJSON);
+
+            // When
+            final var asyncResult = mockMvc.perform(request)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            final var response = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", startsWith(MediaType.APPLICATION_NDJSON_VALUE)));
+
+            final var actualLines = response.andReturn().getResponse()
+                    .getContentAsString(StandardCharsets.UTF_8)
+                    .split("\n");
+            assertEquals(2, actualLines.length);
+
+            final var firstLine = mapper.readTree(actualLines[0]);
+            assertEquals(filmes.getId().getValue(), firstLine.get("id").asText());
+            assertEquals("Filmes", firstLine.get("name").asText());
+            assertTrue(firstLine.get("is_active").asBoolean());
+            assertFalse(firstLine.get("is_removed").asBoolean());
+            assertEquals(filmes.getUpdatedAt(), Instant.parse(firstLine.get("updated_at").asText()));
+
+            final var secondLine = mapper.readTree(actualLines[1]);
+            assertEquals(series.getId().getValue(), secondLine.get("id").asText());
+            assertFalse(secondLine.get("is_active").asBoolean());
+            assertFalse(secondLine.get("deleted_at").isNull());
+
+            verify(exportCategoriesUseCase, times(1)).execute(argThat(aCommand ->
+                    Objects.equals(expectedSince, aCommand.since())));
+        }
+
+        @Test
+        void Given_no_since_When_calls_export_Then_should_export_the_whole_catalog()
+                throws Exception {
+            // Given
+            when(exportCategoriesUseCase.execute(any(ExportCategoriesCommand.class)))
+                    .thenReturn(0L);
+
+            final var request = get("/categories/export");
+
+            // When
+            final var asyncResult = mockMvc.perform(request)
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            final var response = mockMvc.perform(asyncDispatch(asyncResult));
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(""));
+            verify(exportCategoriesUseCase, times(1)).execute(argThat(aCommand -> aCommand.since() == null));
+        }
+    }
+
+    @Nested
+    @DisplayName("List category changes")
+    class ListCategoryChanges {
+
+        @Test
+        void Given_since_and_cursor_When_calls_changes_Then_should_forward_them_and_return_the_next_cursor()
+                throws Exception {
+            // Given
+            final var aCategory = Category.newCategory("Séries", null).deactivate();
+            final var expectedSince = Instant.parse("2024-01-02T00:00:00Z");
+            final var expectedCursor = "dXBkYXRlZEF0CmFzYwoxMjMKMjAyNA";
+            final var expectedNext = "dXBkYXRlZEF0CmFzYwo0NTYKMjAyNA";
+            final var expectedLimit = 50;
+            final var aRemovedId = CategoryID.unique();
+            final var aRemovedAt = aCategory.getUpdatedAt().plusSeconds(1);
+            final var expectedItems = List.of(
+                    CategoryChangeOutput.from(CategoryFeedItem.changed(new CategorySummary(
+                            aCategory.getId(),
+                            aCategory.getName(),
+                            aCategory.getDescription(),
+                            aCategory.isActive(),
+                            aCategory.getCreatedAt(),
+                            aCategory.getUpdatedAt(),
+                            aCategory.getDeletedAt()))),
+                    CategoryChangeOutput.from(CategoryFeedItem.removed(aRemovedId, aRemovedAt)));
+
+            when(listCategoryChangesUseCase.execute(any(CategoryChangesQuery.class)))
+                    .thenReturn(new Pagination<>(0, expectedLimit, Pagination.UNKNOWN_TOTAL, expectedItems,
+                            expectedNext, false));
+
+            final var request = get("/categories/changes")
+                    .queryParam("since", expectedSince.toString())
+                    .queryParam("cursor", expectedCursor)
+                    .queryParam("limit", String.valueOf(expectedLimit))
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.next", equalTo(expectedNext)))
+                    .andExpect(jsonPath("$.items", hasSize(2)))
+                    .andExpect(jsonPath("$.items[0].id", equalTo(aCategory.getId().getValue())))
+                    .andExpect(jsonPath("$.items[0].is_active", equalTo(false)))
+                    .andExpect(jsonPath("$.items[0].is_removed", equalTo(false)))
+                    .andExpect(jsonPath("$.items[0].updated_at", equalTo(aCategory.getUpdatedAt().toString())))
+                    .andExpect(jsonPath("$.items[0].deleted_at", equalTo(aCategory.getDeletedAt().toString())))
+                    .andExpect(jsonPath("$.items[1].id", equalTo(aRemovedId.getValue())))
+                    .andExpect(jsonPath("$.items[1].is_removed", equalTo(true)))
+                    .andExpect(jsonPath("$.items[1].updated_at", equalTo(aRemovedAt.toString())));
+            verify(listCategoryChangesUseCase, times(1)).execute(argThat(query ->
+                    Objects.equals(expectedSince, query.since())
+                            && Objects.equals(expectedCursor, query.cursor())
+                            && expectedLimit == query.limit()));
+        }
+
+        @Test
+        void Given_a_limit_above_the_maximum_When_calls_changes_Then_should_return_unprocessable_entity()
+                throws Exception {
+            // Given
+            final var expectedErrorMessage = "'limit' must be between 1 and 1000";
+
+            final var request = get("/categories/changes")
+                    .queryParam("limit", "1001")
+                    .accept(MediaType.APPLICATION_JSON);
+
+            // When
+            final var response = mockMvc.perform(request)
+                    .andDo(print());
+
+            // Then
+            response
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+            verify(listCategoryChangesUseCase, never()).execute(any());
+        }
     }
 }
@@ -0,0 +1,156 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.interceptors;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import com.fullcycle.admin.catalogo.infrastructure.api.interceptors.ConcurrencyLimitInterceptor.EndpointGroup;
+import com.fullcycle.admin.catalogo.infrastructure.utils.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ConcurrencyLimitInterceptorTest {
+
+    private static final Duration LATENCY_THRESHOLD = Duration.ofMillis(250);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    SimpleMeterRegistry meterRegistry;
+
+    AtomicLong nanoTime;
+
+    EnumMap<EndpointGroup, AdaptiveConcurrencyLimit> limits;
+
+    ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanoTime = new AtomicLong();
+        limits = new EnumMap<>(EndpointGroup.class);
+        for (final var group : EndpointGroup.values()) {
+            final var rejected = meterRegistry.counter(ConcurrencyLimitInterceptor.REJECTED_REQUESTS, "group", group.tag());
+            limits.put(group, new AdaptiveConcurrencyLimit(
+                    "categories.api." + group.tag(), 2, 1, 3, LATENCY_THRESHOLD, 0.5, RETRY_AFTER, rejected, nanoTime::get));
+        }
+        interceptor = new ConcurrencyLimitInterceptor(limits);
+    }
+
+    @Nested
+    @DisplayName("Shed the excess requests")
+    class ShedTheExcessRequests {
+
+        @Test
+        void Given_the_read_group_at_its_limit_When_a_read_arrives_Then_should_reject_it_with_retry_after() {
+            // Given
+            interceptor.preHandle(get(), new MockHttpServletResponse(), null);
+            interceptor.preHandle(get(), new MockHttpServletResponse(), null);
+
+            // When
+            final var actualException = assertThrows(OverloadedException.class,
+                    () -> interceptor.preHandle(get(), new MockHttpServletResponse(), null));
+
+            // Then
+            assertEquals("'categories.api.read' is at its limit of 2 concurrent requests", actualException.getMessage());
+            assertEquals(RETRY_AFTER, actualException.getRetryAfter());
+            assertEquals(1.0, meterRegistry.counter(ConcurrencyLimitInterceptor.REJECTED_REQUESTS, "group", "read").count());
+            assertEquals(2, limits.get(EndpointGroup.READ).inFlight());
+        }
+
+        @Test
+        void Given_the_write_group_at_its_limit_When_a_read_arrives_Then_should_let_it_through() {
+            // Given
+            interceptor.preHandle(request("POST"), new MockHttpServletResponse(), null);
+            interceptor.preHandle(request("PUT"), new MockHttpServletResponse(), null);
+
+            // When
+            final var actualResult = interceptor.preHandle(get(), new MockHttpServletResponse(), null);
+
+            // Then
+            assertTrue(actualResult);
+            assertEquals(2, limits.get(EndpointGroup.WRITE).inFlight());
+            assertEquals(1, limits.get(EndpointGroup.READ).inFlight());
+        }
+    }
+
+    @Nested
+    @DisplayName("Adapt the limit to the observed latency")
+    class AdaptTheLimitToTheObservedLatency {
+
+        @Test
+        void Given_fast_responses_with_the_window_in_use_When_they_complete_Then_should_grow_the_limit_by_one() {
+            // Given
+            final var aRequest = get();
+            final var aResponse = new MockHttpServletResponse();
+            interceptor.preHandle(aRequest, aResponse, null);
+            nanoTime.addAndGet(Duration.ofMillis(10).toNanos());
+
+            // When
+            interceptor.afterCompletion(aRequest, aResponse, null, null);
+
+            // Then
+            assertEquals(3, limits.get(EndpointGroup.READ).limit());
+            assertEquals(0, limits.get(EndpointGroup.READ).inFlight());
+        }
+
+        @Test
+        void Given_a_response_slower_than_the_threshold_When_it_completes_Then_should_back_off_the_limit() {
+            // Given
+            final var aRequest = get();
+            final var aResponse = new MockHttpServletResponse();
+            interceptor.preHandle(aRequest, aResponse, null);
+            nanoTime.addAndGet(LATENCY_THRESHOLD.plusMillis(1).toNanos());
+
+            // When
+            interceptor.afterCompletion(aRequest, aResponse, null, null);
+
+            // Then
+            assertEquals(1, limits.get(EndpointGroup.READ).limit());
+        }
+
+        @Test
+        void Given_a_server_error_When_it_completes_Then_should_back_off_the_limit() {
+            // Given
+            final var aRequest = request("POST");
+            final var aResponse = new MockHttpServletResponse();
+            interceptor.preHandle(aRequest, aResponse, null);
+            aResponse.setStatus(503);
+
+            // When
+            interceptor.afterCompletion(aRequest, aResponse, null, null);
+
+            // Then
+            assertEquals(1, limits.get(EndpointGroup.WRITE).limit());
+            assertEquals(2, limits.get(EndpointGroup.READ).limit());
+        }
+
+        @Test
+        void Given_a_completed_request_When_afterCompletion_runs_again_Then_should_not_release_twice() {
+            // Given
+            final var aRequest = get();
+            final var aResponse = new MockHttpServletResponse();
+            interceptor.preHandle(aRequest, aResponse, null);
+            interceptor.preHandle(get(), new MockHttpServletResponse(), null);
+            interceptor.afterCompletion(aRequest, aResponse, null, null);
+
+            // When
+            interceptor.afterCompletion(aRequest, aResponse, null, null);
+
+            // Then
+            assertEquals(1, limits.get(EndpointGroup.READ).inFlight());
+        }
+    }
+
+    private static MockHttpServletRequest get() {
+        return request("GET");
+    }
+
+    private static MockHttpServletRequest request(final String aMethod) {
+        return new MockHttpServletRequest(aMethod, "/categories");
+    }
+}
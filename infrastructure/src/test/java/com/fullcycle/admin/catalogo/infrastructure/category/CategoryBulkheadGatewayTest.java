@@ -0,0 +1,155 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.OverloadedException;
+import com.fullcycle.admin.catalogo.infrastructure.utils.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategoryBulkheadGatewayTest {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    @Mock
+    CategoryGateway delegate;
+
+    SimpleMeterRegistry meterRegistry;
+
+    Bulkhead bulkhead;
+
+    Bulkhead exportBulkhead;
+
+    CategoryBulkheadGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final var rejected = Counter.builder(CategoryBulkheadGateway.REJECTED_CALLS)
+                .tag("bulkhead", "gateway")
+                .register(meterRegistry);
+        final var exportRejected = Counter.builder(CategoryBulkheadGateway.REJECTED_CALLS)
+                .tag("bulkhead", "export")
+                .register(meterRegistry);
+        bulkhead = new Bulkhead("categories.gateway", 1, Duration.ofMillis(10), RETRY_AFTER, rejected);
+        exportBulkhead = new Bulkhead("categories.export", 1, Duration.ofMillis(10), RETRY_AFTER, exportRejected);
+        categoryGateway = new CategoryBulkheadGateway(delegate, bulkhead, exportBulkhead);
+    }
+
+    @Nested
+    @DisplayName("Limit the concurrent database calls")
+    class LimitTheConcurrentDatabaseCalls {
+
+        @Test
+        void Given_every_permit_taken_When_calls_findById_Then_should_reject_without_reaching_the_delegate() throws Exception {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            final var release = new CountDownLatch(1);
+            when(delegate.findById(eq(expectedId))).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(aCategory);
+            });
+            final var executor = Executors.newSingleThreadExecutor();
+
+            try {
+                final var holder = CompletableFuture.supplyAsync(() -> categoryGateway.findById(expectedId), executor);
+                verify(delegate, timeout(5000)).findById(eq(expectedId));
+
+                // When
+                final var actualException = assertThrows(OverloadedException.class,
+                        () -> categoryGateway.deleteById(expectedId));
+                release.countDown();
+
+                // Then
+                assertEquals(RETRY_AFTER, actualException.getRetryAfter());
+                assertEquals(1.0, meterRegistry.get(CategoryBulkheadGateway.REJECTED_CALLS).tag("bulkhead", "gateway").counter().count());
+                assertEquals(expectedId, holder.get(5, TimeUnit.SECONDS).get().getId());
+                verify(delegate, never()).deleteById(any());
+                assertEquals(0, bulkhead.inFlight());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void Given_a_failing_call_When_calls_findById_again_Then_should_have_released_the_permit() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenThrow(new IllegalStateException("Gateway error"))
+                    .thenReturn(Optional.empty());
+
+            // When
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> categoryGateway.findById(expectedId));
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertEquals("Gateway error", actualException.getMessage());
+            assertTrue(actualResult.isEmpty());
+            assertEquals(0, bulkhead.inFlight());
+            assertEquals(0.0, meterRegistry.get(CategoryBulkheadGateway.REJECTED_CALLS).tag("bulkhead", "gateway").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Keep the export on its own bulkhead")
+    class KeepTheExportOnItsOwnBulkhead {
+
+        @Test
+        void Given_a_running_export_When_calls_findById_Then_should_not_compete_with_the_export_for_a_permit() throws Exception {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            final var release = new CountDownLatch(1);
+            when(delegate.forEachUpdatedSince(any(), any())).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return 0L;
+            });
+            when(delegate.findById(eq(expectedId))).thenReturn(Optional.empty());
+            final var executor = Executors.newSingleThreadExecutor();
+
+            try {
+                final var export = CompletableFuture.supplyAsync(
+                        () -> categoryGateway.forEachUpdatedSince(null, aCategory -> {}), executor);
+                verify(delegate, timeout(5000)).forEachUpdatedSince(any(), any());
+
+                // When
+                final var actualResult = categoryGateway.findById(expectedId);
+                final var actualException = assertThrows(OverloadedException.class,
+                        () -> categoryGateway.forEachUpdatedSince(null, aCategory -> {}));
+                release.countDown();
+
+                // Then
+                assertTrue(actualResult.isEmpty());
+                assertEquals("'categories.export' is at its limit of 1 concurrent calls", actualException.getMessage());
+                assertEquals(0L, export.get(5, TimeUnit.SECONDS));
+                assertEquals(0.0, meterRegistry.get(CategoryBulkheadGateway.REJECTED_CALLS).tag("bulkhead", "gateway").counter().count());
+                assertEquals(1.0, meterRegistry.get(CategoryBulkheadGateway.REJECTED_CALLS).tag("bulkhead", "export").counter().count());
+                assertEquals(0, bulkhead.inFlight());
+                assertEquals(0, exportBulkhead.inFlight());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChange;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheGatewayTest {
+
+    @Mock
+    CategoryGateway delegate;
+
+    SimpleMeterRegistry meterRegistry;
+
+    CategoryCacheGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryGateway = new CategoryCacheGateway(delegate, Duration.ofMinutes(5), 100, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Find a category by id through the cache")
+    class FindCategoryById {
+
+        @Test
+        void Given_a_valid_id_When_calls_findById_twice_Then_should_hit_the_delegate_once() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(Category.with(aCategory)));
+
+            // When
+            final var firstResult = categoryGateway.findById(expectedId);
+            final var secondResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertEquals(expectedId, firstResult.get().getId());
+            assertEquals(expectedId, secondResult.get().getId());
+            verify(delegate, times(1)).findById(eq(expectedId));
+            assertEquals(1.0, meterRegistry.get("cache.gets")
+                    .tag("cache", CategoryCacheGateway.CACHE_NAME)
+                    .tag("result", "hit")
+                    .functionCounter()
+                    .count());
+        }
+
+        @Test
+        void Given_a_cached_category_When_caller_mutates_it_Then_should_not_change_the_cached_copy() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(Category.with(aCategory)));
+
+            // When
+            categoryGateway.findById(expectedId).get().update("Séries", "Outra descrição");
+            final var actualCategory = categoryGateway.findById(expectedId).get();
+
+            // Then
+            assertEquals("Filmes", actualCategory.getName());
+            assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        }
+
+        @Test
+        void Given_an_unknown_id_When_calls_findById_Then_should_not_cache_the_absence() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.empty());
+
+            // When
+            final var firstResult = categoryGateway.findById(expectedId);
+            final var secondResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(firstResult.isEmpty());
+            assertTrue(secondResult.isEmpty());
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidate a cached category")
+    class InvalidateCachedCategory {
+
+        @Test
+        void Given_a_cached_category_When_calls_update_Then_should_reload_from_delegate() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            final var anUpdatedCategory = Category.with(aCategory).deactivate();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(Category.with(aCategory)))
+                    .thenReturn(Optional.of(Category.with(anUpdatedCategory)));
+            when(delegate.update(any(Category.class)))
+                    .thenAnswer(returnsFirstArg());
+            categoryGateway.findById(expectedId);
+
+            // When
+            categoryGateway.update(anUpdatedCategory);
+            final var actualCategory = categoryGateway.findById(expectedId).get();
+
+            // Then
+            assertFalse(actualCategory.isActive());
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+
+        @Test
+        void Given_a_cached_category_When_calls_applyChange_Then_should_reload_from_delegate() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            final var aDeactivatedCategory = Category.with(aCategory).deactivate();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(Category.with(aCategory)))
+                    .thenReturn(Optional.of(Category.with(aDeactivatedCategory)));
+            when(delegate.applyChange(any(CategoryChange.class)))
+                    .thenReturn(true);
+            categoryGateway.findById(expectedId);
+
+            // When
+            categoryGateway.applyChange(Category.deactivationOf(expectedId, Instant.now()));
+            final var actualCategory = categoryGateway.findById(expectedId).get();
+
+            // Then
+            assertFalse(actualCategory.isActive());
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+
+        @Test
+        void Given_a_cached_category_When_calls_deleteById_Then_should_reload_from_delegate() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(Category.with(aCategory)))
+                    .thenReturn(Optional.empty());
+            categoryGateway.findById(expectedId);
+
+            // When
+            categoryGateway.deleteById(expectedId);
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(actualResult.isEmpty());
+            verify(delegate, times(1)).deleteById(eq(expectedId));
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+    }
+}
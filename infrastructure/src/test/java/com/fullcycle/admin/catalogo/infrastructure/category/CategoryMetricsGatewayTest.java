@@ -0,0 +1,116 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CallMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategoryMetricsGatewayTest {
+
+    @Mock
+    CategoryGateway delegate;
+
+    SimpleMeterRegistry meterRegistry;
+
+    CategoryMetricsGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryGateway = new CategoryMetricsGateway(delegate, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Record every gateway call")
+    class RecordEveryGatewayCall {
+
+        @Test
+        void Given_a_page_of_categories_When_calls_findAll_Then_should_time_the_call_and_record_the_page_size() {
+            // Given
+            final var categories = List.of(
+                    Category.newCategory("Filmes", "A categoria mais assistida"),
+                    Category.newCategory("Séries", null));
+            final var expectedPage = new Pagination<>(0, 10, 2, categories);
+            when(delegate.findAll(any())).thenReturn(expectedPage);
+
+            // When
+            final var actualPage = categoryGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+            // Then
+            assertEquals(expectedPage, actualPage);
+            assertEquals(1, meterRegistry.get(CategoryMetricsGateway.CALLS)
+                    .tag("method", "findAll")
+                    .tag("outcome", CallMetrics.SUCCESS)
+                    .timer()
+                    .count());
+            assertEquals(2.0, meterRegistry.get(CategoryMetricsGateway.RESULT_SIZE)
+                    .tag("method", "findAll")
+                    .summary()
+                    .totalAmount());
+            assertNull(meterRegistry.find(CategoryMetricsGateway.ERRORS).counter());
+        }
+
+        @Test
+        void Given_a_gateway_error_When_calls_findById_Then_should_count_the_exception_and_rethrow_it() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId))).thenThrow(new IllegalStateException("Gateway error"));
+
+            // When
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> categoryGateway.findById(expectedId));
+
+            // Then
+            assertEquals("Gateway error", actualException.getMessage());
+            assertEquals(1, meterRegistry.get(CategoryMetricsGateway.CALLS)
+                    .tag("method", "findById")
+                    .tag("outcome", CallMetrics.EXCEPTION)
+                    .timer()
+                    .count());
+            assertEquals(1.0, meterRegistry.get(CategoryMetricsGateway.ERRORS)
+                    .tag("method", "findById")
+                    .tag("error", "IllegalStateException")
+                    .counter()
+                    .count());
+            assertNull(meterRegistry.find(CategoryMetricsGateway.RESULT_SIZE).summary());
+        }
+
+        @Test
+        void Given_repeated_calls_When_calls_findById_Then_should_reuse_the_registered_meters() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId))).thenReturn(Optional.empty());
+            categoryGateway.findById(expectedId);
+            final var expectedMeters = meterRegistry.getMeters().size();
+
+            // When
+            categoryGateway.findById(expectedId);
+            categoryGateway.findById(expectedId);
+
+            // Then
+            assertEquals(expectedMeters, meterRegistry.getMeters().size());
+            assertEquals(3, meterRegistry.get(CategoryMetricsGateway.CALLS)
+                    .tag("method", "findById")
+                    .tag("outcome", CallMetrics.SUCCESS)
+                    .timer()
+                    .count());
+        }
+    }
+}
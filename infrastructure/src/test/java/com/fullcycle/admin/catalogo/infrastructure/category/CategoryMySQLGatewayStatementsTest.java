@@ -0,0 +1,278 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@MySQLGatewayTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CategoryMySQLGatewayStatementsTest {
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Nested
+    @DisplayName("Count statements issued by create")
+    class CreateStatements {
+
+        @Test
+        void Given_a_valid_category_When_calls_create_Then_should_insert_the_category_and_its_outbox_event() {
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+
+            categoryGateway.create(aCategory);
+
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(2, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(1, repository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Store ids as 16 bytes")
+    class BinaryIdStatements {
+
+        @Test
+        void Given_a_valid_category_When_calls_create_Then_should_store_the_id_in_16_bytes() {
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+
+            categoryGateway.create(aCategory);
+
+            final var actualLength = entityManager
+                    .createNativeQuery("select octet_length(id) from category")
+                    .getSingleResult();
+            assertEquals(16, ((Number) actualLength).intValue());
+            assertEquals(aCategory.getId(), categoryGateway.findById(aCategory.getId()).get().getId());
+        }
+
+        @Test
+        void Given_an_id_that_is_not_an_uuid_When_calls_the_gateway_Then_should_not_issue_any_statement() {
+            final var anId = CategoryID.from("123");
+
+            assertTrue(categoryGateway.findById(anId).isEmpty());
+            assertFalse(categoryGateway.applyChange(Category.updateOf(anId, "Filmes", null, now())));
+            assertFalse(categoryGateway.applyChange(Category.activationOf(anId, now())));
+            assertFalse(categoryGateway.applyChange(Category.deactivationOf(anId, now())));
+            categoryGateway.deleteById(anId);
+            categoryGateway.deleteAllById(List.of(anId));
+
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Count statements issued by deletes")
+    class DeleteStatements {
+
+        @Test
+        void Given_a_stored_category_When_calls_deleteById_Then_should_issue_a_delete_a_tombstone_insert_and_an_outbox_insert() {
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            statistics.clear();
+
+            categoryGateway.deleteById(aCategory.getId());
+
+            assertEquals(3, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(0, repository.count());
+        }
+
+        @Test
+        void Given_a_non_stored_id_When_calls_deleteById_twice_Then_should_issue_one_delete_each() {
+            final var anId = CategoryID.unique();
+
+            categoryGateway.deleteById(anId);
+            categoryGateway.deleteById(anId);
+
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+        }
+
+        @Test
+        void Given_stored_categories_When_calls_deleteAllById_Then_should_lock_delete_tombstone_and_append_in_one_statement_each() {
+            final var filmes = Category.newCategory("Filmes", null);
+            final var series = Category.newCategory("Séries", null);
+            final var documentarios = Category.newCategory("Documentários", null);
+            repository.saveAllAndFlush(List.of(
+                    CategoryJpaEntity.from(filmes),
+                    CategoryJpaEntity.from(series),
+                    CategoryJpaEntity.from(documentarios)
+            ));
+            statistics.clear();
+
+            categoryGateway.deleteAllById(List.of(filmes.getId(), series.getId(), CategoryID.from("invalid")));
+
+            assertEquals(4, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertEquals(1, repository.count());
+            assertTrue(repository.existsById(documentarios.getId().getValue()));
+        }
+
+        @Test
+        void Given_non_stored_ids_When_calls_deleteAllById_Then_should_only_issue_the_locking_select() {
+            categoryGateway.deleteAllById(List.of(CategoryID.unique(), CategoryID.unique()));
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+        }
+
+        @Test
+        void Given_no_ids_When_calls_deleteAllById_Then_should_not_issue_any_statement() {
+            categoryGateway.deleteAllById(List.of());
+
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Count statements issued by the conditional updates")
+    class ConditionalUpdateStatements {
+
+        @Test
+        void Given_a_stored_category_When_calls_applyChange_with_an_update_Then_should_issue_a_single_update_and_an_outbox_insert() {
+            final var aCategory = Category.newCategory("Film", null);
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            statistics.clear();
+
+            final var updated = categoryGateway.applyChange(
+                    Category.updateOf(aCategory.getId(), "Filmes", "A categoria mais assistida", now()));
+
+            assertTrue(updated);
+            assertEquals(2, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+
+            final var actualCategory = repository.findById(aCategory.getId().getValue()).get();
+            assertEquals("Filmes", actualCategory.getName());
+            assertEquals("A categoria mais assistida", actualCategory.getDescription());
+        }
+
+        @Test
+        void Given_a_non_stored_id_When_calls_applyChange_with_an_update_Then_should_return_false() {
+            final var updated = categoryGateway.applyChange(Category.updateOf(CategoryID.unique(), "Filmes", null, now()));
+
+            assertFalse(updated);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(0, repository.count());
+        }
+
+        @Test
+        void Given_an_inactive_category_When_calls_applyChange_with_an_activation_Then_should_clear_deleted_at() {
+            final var aCategory = Category.newCategory("Filmes", null).deactivate();
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            statistics.clear();
+
+            final var activated = categoryGateway.applyChange(Category.activationOf(aCategory.getId(), now()));
+
+            assertTrue(activated);
+            assertEquals(2, statistics.getPrepareStatementCount());
+
+            final var actualCategory = repository.findById(aCategory.getId().getValue()).get();
+            assertTrue(actualCategory.isActive());
+            assertNull(actualCategory.getDeletedAt());
+        }
+
+        @Test
+        void Given_an_inactive_category_When_calls_applyChange_with_a_deactivation_Then_should_keep_the_first_deleted_at() {
+            final var aCategory = Category.newCategory("Filmes", null).deactivate();
+            final var expectedDeletedAt = aCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS);
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            statistics.clear();
+
+            final var deactivated = categoryGateway.applyChange(
+                    Category.deactivationOf(aCategory.getId(), now().plusSeconds(60)));
+
+            assertTrue(deactivated);
+            assertEquals(2, statistics.getPrepareStatementCount());
+
+            final var actualCategory = repository.findById(aCategory.getId().getValue()).get();
+            assertFalse(actualCategory.isActive());
+            assertEquals(expectedDeletedAt, actualCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS));
+        }
+
+        @Test
+        void Given_an_active_category_When_calls_applyChange_with_a_deactivation_Then_should_set_deleted_at() {
+            final var aCategory = Category.newCategory("Filmes", null);
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            final var expectedDeletedAt = now().plusSeconds(60);
+            statistics.clear();
+
+            final var deactivated = categoryGateway.applyChange(
+                    Category.deactivationOf(aCategory.getId(), expectedDeletedAt));
+
+            assertTrue(deactivated);
+            assertEquals(2, statistics.getPrepareStatementCount());
+
+            final var actualCategory = repository.findById(aCategory.getId().getValue()).get();
+            assertFalse(actualCategory.isActive());
+            assertEquals(expectedDeletedAt.truncatedTo(ChronoUnit.MILLIS), actualCategory.getDeletedAt().truncatedTo(ChronoUnit.MILLIS));
+            assertEquals(expectedDeletedAt.truncatedTo(ChronoUnit.MILLIS), actualCategory.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+        }
+
+        @Test
+        void Given_a_non_stored_id_When_calls_applyChange_with_an_activation_or_deactivation_Then_should_return_false() {
+            assertFalse(categoryGateway.applyChange(Category.activationOf(CategoryID.unique(), now())));
+            assertFalse(categoryGateway.applyChange(Category.deactivationOf(CategoryID.unique(), now())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reuse the query plans of the list")
+    class ListStatements {
+
+        @Test
+        void Given_the_same_list_shape_When_calls_findAll_twice_Then_should_reuse_the_cached_query_plans() {
+            repository.saveAllAndFlush(List.of(
+                    CategoryJpaEntity.from(Category.newCategory("Filmes", null)),
+                    CategoryJpaEntity.from(Category.newCategory("Séries", null))
+            ));
+            categoryGateway.findAll(new CategorySearchQuery(0, 1, "filmes", "name", "asc", null, null, true));
+            statistics.clear();
+
+            final var actualResult = categoryGateway.findAll(
+                    new CategorySearchQuery(0, 1, "séries", "name", "asc", null, null, true));
+
+            assertEquals(1, actualResult.total());
+            assertEquals(0, statistics.getQueryPlanCacheMissCount());
+            assertEquals(2, statistics.getQueryPlanCacheHitCount());
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -2,14 +2,33 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryChangesQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryFeedItem;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryTombstoneJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryTombstoneRepository;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.Outbox;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +42,15 @@ class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository repository;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private CategoryTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private Outbox outbox;
+
     @Nested
     @DisplayName("Create with a valid category")
     class CreateWithValidCategory {
@@ -63,6 +91,33 @@ class CategoryMySQLGatewayTest {
         }
     }
 
+    @Nested
+    @DisplayName("Create a batch of valid categories")
+    class CreateAllWithValidCategories {
+
+        @Test
+        void Given_more_categories_than_the_insert_batch_size_When_calls_createAll_Then_should_persist_all() {
+            final var categories = IntStream.range(0, 120)
+                    .mapToObj(i -> Category.newCategory("Category %03d".formatted(i), "Descrição %d".formatted(i)))
+                    .toList();
+
+            assertEquals(0, repository.count());
+
+            final var actualCategories = categoryGateway.createAll(categories);
+
+            assertEquals(120, repository.count());
+            assertEquals(120, actualCategories.size());
+            assertEquals(categories.get(0).getId(), actualCategories.get(0).getId());
+            assertEquals(categories.get(119).getId(), actualCategories.get(119).getId());
+
+            final var actualEntity = repository.findById(categories.get(42).getId().getValue()).get();
+
+            assertEquals("Category 042", actualEntity.getName());
+            assertEquals("Descrição 42", actualEntity.getDescription());
+            assertTrue(actualEntity.isActive());
+        }
+    }
+
     @Nested
     @DisplayName("Update with a valid category")
     class UpdateWithValidCategory {
@@ -472,4 +527,563 @@ class CategoryMySQLGatewayTest {
             assertEquals(filmes.getId(), actualResult.items().get(0).getId());
         }
     }
+
+    @Nested
+    @DisplayName("List categories following a cursor")
+    class ListCategoriesFollowingCursor {
+
+        @Test
+        void Given_pre_persisted_categories_When_calls_findAll_following_next_cursor_Then_should_return_every_page() {
+            // Given
+            final var expectedPerPage = 1;
+            final var terms = "";
+            final var sort = "name";
+            final var direction = "asc";
+
+            final var filmes = Category.newCategory("Filmes", " ");
+            final var series = Category.newCategory("Séries", " ");
+            final var documentarios = Category.newCategory("Documentários", " ");
+
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(filmes),
+                    CategoryJpaEntity.from(series),
+                    CategoryJpaEntity.from(documentarios)
+            ));
+
+            // When
+            final var firstPage = categoryGateway.findAll(
+                    new CategorySearchQuery(0, expectedPerPage, terms, sort, direction));
+            final var secondPage = categoryGateway.findAll(
+                    new CategorySearchQuery(0, expectedPerPage, terms, sort, direction, firstPage.next()));
+            final var thirdPage = categoryGateway.findAll(
+                    new CategorySearchQuery(0, expectedPerPage, terms, sort, direction, secondPage.next()));
+
+            // Then
+            assertEquals(documentarios.getId(), firstPage.items().get(0).getId());
+            assertNotNull(firstPage.next());
+
+            assertEquals(filmes.getId(), secondPage.items().get(0).getId());
+            assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+            assertNotNull(secondPage.next());
+
+            assertEquals(series.getId(), thirdPage.items().get(0).getId());
+            assertNull(thirdPage.next());
+        }
+
+        @Test
+        void Given_desc_direction_When_calls_findAll_following_next_cursor_Then_should_return_next_page() {
+            // Given
+            final var filmes = Category.newCategory("Filmes", " ");
+            final var series = Category.newCategory("Séries", " ");
+            final var documentarios = Category.newCategory("Documentários", " ");
+
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(filmes),
+                    CategoryJpaEntity.from(series),
+                    CategoryJpaEntity.from(documentarios)
+            ));
+
+            final var firstPage = categoryGateway.findAll(
+                    new CategorySearchQuery(0, 2, "", "name", "desc"));
+
+            // When
+            final var actualResult = categoryGateway.findAll(
+                    new CategorySearchQuery(0, 2, "", "name", "desc", firstPage.next()));
+
+            // Then
+            assertEquals(2, firstPage.items().size());
+            assertEquals(1, actualResult.items().size());
+            assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+            assertNull(actualResult.next());
+        }
+
+        @Test
+        void Given_a_malformed_cursor_When_calls_findAll_Then_should_throw_domain_exception() {
+            // Given
+            final var expectedErrorMessage = "'after' is not a valid cursor";
+            final var aQuery = new CategorySearchQuery(0, 1, "", "name", "asc", "%%not-a-cursor%%");
+
+            // When
+            final var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(aQuery));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories choosing the count mode")
+    class ListCategoriesChoosingCountMode {
+
+        @BeforeEach
+        void mockUp() {
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(Category.newCategory("Filmes", " ")),
+                    CategoryJpaEntity.from(Category.newCategory("Séries", " ")),
+                    CategoryJpaEntity.from(Category.newCategory("Documentários", " "))
+            ));
+        }
+
+        @Test
+        void Given_none_count_mode_When_calls_findAll_Then_should_return_unknown_total_and_has_next() {
+            // Given
+            final var aQuery = new CategorySearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE);
+
+            // When
+            final var actualResult = categoryGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+            assertEquals(2, actualResult.items().size());
+            assertTrue(actualResult.hasNext());
+        }
+
+        @Test
+        void Given_none_count_mode_When_calls_findAll_on_last_page_Then_should_not_have_next() {
+            // Given
+            final var aQuery = new CategorySearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE);
+
+            // When
+            final var actualResult = categoryGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(1, actualResult.items().size());
+            assertFalse(actualResult.hasNext());
+            assertNull(actualResult.next());
+        }
+
+        @Test
+        void Given_estimated_count_mode_When_calls_findAll_twice_Then_should_reuse_cached_total() {
+            // Given
+            final var aQuery = new CategorySearchQuery(0, 2, "", "name", "asc", null, CountMode.ESTIMATED);
+            final var firstResult = categoryGateway.findAll(aQuery);
+
+            repository.save(CategoryJpaEntity.from(Category.newCategory("Kids", " ")));
+
+            // When
+            final var actualResult = categoryGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(3, firstResult.total());
+            assertEquals(3, actualResult.total());
+            assertEquals(4, repository.count());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories projected to a read model")
+    class ListCategoriesProjected {
+
+        @Test
+        void Given_pre_persisted_categories_When_calls_findSummaries_Then_should_return_the_projected_rows() {
+            // Given
+            final var filmes = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var documentarios = Category.newCategory("Documentários", " ");
+
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(filmes),
+                    CategoryJpaEntity.from(documentarios)
+            ));
+
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+            // When
+            final var actualResult = categoryGateway.findSummaries(aQuery);
+
+            // Then
+            assertEquals(2, actualResult.total());
+            assertEquals(2, actualResult.items().size());
+
+            final var actualOutput = actualResult.items().get(1);
+            assertEquals(filmes.getId(), actualOutput.id());
+            assertEquals(filmes.getName(), actualOutput.name());
+            assertEquals(filmes.getDescription(), actualOutput.description());
+            assertEquals(filmes.isActive(), actualOutput.isActive());
+            assertEquals(filmes.getCreatedAt(), actualOutput.createdAt());
+            assertNull(actualOutput.deletedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories sorted by relevance")
+    class ListCategoriesSortedByRelevance {
+
+        @Test
+        void Given_full_text_disabled_When_calls_findAll_sorted_by_relevance_Then_should_fall_back_to_like_ordered_by_name() {
+            // Given
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida")),
+                    CategoryJpaEntity.from(Category.newCategory("Documentários", "Filmes reais")),
+                    CategoryJpaEntity.from(Category.newCategory("Séries", "A categoria menos assistida"))
+            ));
+
+            final var aQuery = new CategorySearchQuery(0, 10, "filmes", "relevance", "asc");
+
+            // When
+            final var actualResult = categoryGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(2, actualResult.total());
+            assertEquals(2, actualResult.items().size());
+            assertEquals("Documentários", actualResult.items().get(0).getName());
+            assertEquals("Filmes", actualResult.items().get(1).getName());
+            assertNull(actualResult.next());
+        }
+
+        @Test
+        void Given_full_text_enabled_and_terms_made_only_of_operators_When_calls_findAll_Then_should_fall_back_to_like() {
+            // Given
+            final var aFullTextGateway = new CategoryMySQLGateway(
+                    repository, tombstoneRepository, outbox, Duration.ofSeconds(30), 1000, true, 1000);
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(Category.newCategory("C++", "Linguagens de programação")),
+                    CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida"))
+            ));
+
+            final var aQuery = new CategorySearchQuery(0, 10, "++", "relevance", "asc");
+
+            // When
+            final var actualResult = aFullTextGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(1, actualResult.total());
+            assertEquals(1, actualResult.items().size());
+            assertEquals("C++", actualResult.items().get(0).getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories filtered by active")
+    class ListCategoriesFilteredByActive {
+
+        @Test
+        void Given_active_and_inactive_categories_When_calls_findAll_filtering_active_Then_should_return_only_matching() {
+            // Given
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida")),
+                    CategoryJpaEntity.from(Category.newCategory("Documentários", " ").deactivate()),
+                    CategoryJpaEntity.from(Category.newCategory("Séries", "A categoria menos assistida"))
+            ));
+
+            final var activeQuery = new CategorySearchQuery(0, 10, "", "name", "asc", null, null, true);
+            final var inactiveQuery = new CategorySearchQuery(0, 10, "", "name", "asc", null, null, false);
+
+            // When
+            final var actualActive = categoryGateway.findAll(activeQuery);
+            final var actualInactive = categoryGateway.findAll(inactiveQuery);
+
+            // Then
+            assertEquals(2, actualActive.total());
+            assertEquals("Filmes", actualActive.items().get(0).getName());
+            assertEquals("Séries", actualActive.items().get(1).getName());
+            assertEquals(1, actualInactive.total());
+            assertEquals("Documentários", actualInactive.items().get(0).getName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Export categories updated since")
+    class ExportCategoriesUpdatedSince {
+
+        @Test
+        void Given_pre_persisted_categories_When_calls_forEachUpdatedSince_Then_should_stream_them_ordered_by_updated_at() {
+            // Given
+            final var since = Instant.parse("2024-01-02T00:00:00Z");
+            final var older = aCategoryUpdatedAt("Filmes", since.minusSeconds(1));
+            final var atSince = aCategoryUpdatedAt("Séries", since);
+            final var newer = aCategoryUpdatedAt("Documentários", since.plusSeconds(60));
+
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(newer),
+                    CategoryJpaEntity.from(older),
+                    CategoryJpaEntity.from(atSince)
+            ));
+
+            // When
+            final var actualAll = new ArrayList<Category>();
+            final var actualSince = new ArrayList<Category>();
+            final var actualAllCount = categoryGateway.forEachUpdatedSince(null, actualAll::add);
+            final var actualSinceCount = categoryGateway.forEachUpdatedSince(since, actualSince::add);
+
+            // Then
+            assertEquals(3, actualAllCount);
+            assertEquals(List.of(older.getId(), atSince.getId(), newer.getId()),
+                    actualAll.stream().map(Category::getId).toList());
+            assertEquals(2, actualSinceCount);
+            assertEquals(List.of(atSince.getId(), newer.getId()),
+                    actualSince.stream().map(Category::getId).toList());
+            assertEquals("Documentários", actualSince.get(1).getName());
+        }
+
+        private Category aCategoryUpdatedAt(final String aName, final Instant anUpdatedAt) {
+            return Category.with(CategoryID.unique(), aName, null, true, anUpdatedAt, anUpdatedAt, null);
+        }
+    }
+
+    @Nested
+    @DisplayName("List category changes")
+    class ListCategoryChanges {
+
+        @Test
+        void Given_pre_persisted_categories_When_calls_findChanges_following_next_cursor_Then_should_return_every_change_since() {
+            // Given
+            final var since = Instant.parse("2024-01-02T00:00:00Z");
+            final var older = aCategoryUpdatedAt("Filmes", since.minusSeconds(1), true);
+            final var atSince = aCategoryUpdatedAt("Séries", since, true);
+            final var deactivated = aCategoryUpdatedAt("Documentários", since.plusSeconds(30), false);
+            final var newer = aCategoryUpdatedAt("Animes", since.plusSeconds(60), true);
+
+            repository.saveAll(List.of(
+                    CategoryJpaEntity.from(newer),
+                    CategoryJpaEntity.from(deactivated),
+                    CategoryJpaEntity.from(older),
+                    CategoryJpaEntity.from(atSince)
+            ));
+
+            // When
+            final var actualFirstPage = categoryGateway.findChanges(new CategoryChangesQuery(since, null, 2));
+            final var actualSecondPage = categoryGateway.findChanges(
+                    new CategoryChangesQuery(null, actualFirstPage.next(), 2));
+
+            // Then
+            assertEquals(List.of(atSince.getId(), deactivated.getId()),
+                    actualFirstPage.items().stream().map(CategoryFeedItem::id).toList());
+            assertTrue(actualFirstPage.hasNext());
+            assertFalse(actualFirstPage.items().get(1).category().isActive());
+            assertNotNull(actualFirstPage.items().get(1).category().deletedAt());
+
+            assertEquals(List.of(newer.getId()),
+                    actualSecondPage.items().stream().map(CategoryFeedItem::id).toList());
+            assertFalse(actualSecondPage.hasNext());
+            assertNotNull(actualSecondPage.next());
+        }
+
+        @Test
+        void Given_no_changes_after_cursor_When_calls_findChanges_Then_should_return_the_same_cursor() {
+            // Given
+            final var aCategory = aCategoryUpdatedAt("Filmes", Instant.parse("2024-01-02T00:00:00Z"), true);
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+            final var expectedCursor = categoryGateway.findChanges(new CategoryChangesQuery(null, null, 10))
+                    .next();
+
+            // When
+            final var actualPage = categoryGateway.findChanges(new CategoryChangesQuery(null, expectedCursor, 10));
+
+            // Then
+            assertTrue(actualPage.items().isEmpty());
+            assertFalse(actualPage.hasNext());
+            assertEquals(expectedCursor, actualPage.next());
+        }
+
+        @Test
+        void Given_since_and_no_changes_When_calls_findChanges_Then_should_return_a_cursor_resuming_from_since() {
+            // Given
+            final var since = Instant.parse("2024-01-02T00:00:00Z");
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategoryUpdatedAt("Filmes", since.minusSeconds(1), true)));
+
+            // When
+            final var actualEmptyPage = categoryGateway.findChanges(new CategoryChangesQuery(since, null, 10));
+            final var atSince = aCategoryUpdatedAt("Séries", since, true);
+            repository.saveAndFlush(CategoryJpaEntity.from(atSince));
+            final var actualNextPage = categoryGateway.findChanges(
+                    new CategoryChangesQuery(null, actualEmptyPage.next(), 10));
+
+            // Then
+            assertTrue(actualEmptyPage.items().isEmpty());
+            assertNotNull(actualEmptyPage.next());
+            assertEquals(List.of(atSince.getId()),
+                    actualNextPage.items().stream().map(CategoryFeedItem::id).toList());
+        }
+
+        @Test
+        void Given_deleted_categories_When_calls_findChanges_Then_should_list_them_as_removed_in_order() {
+            // Given
+            final var since = Instant.parse("2024-01-02T00:00:00Z");
+            final var filmes = aCategoryUpdatedAt("Filmes", since, true);
+            final var series = aCategoryUpdatedAt("Séries", since.plusSeconds(30), true);
+            repository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+            // When
+            categoryGateway.deleteById(filmes.getId());
+            final var actualFirstPage = categoryGateway.findChanges(new CategoryChangesQuery(since, null, 1));
+            final var actualSecondPage = categoryGateway.findChanges(
+                    new CategoryChangesQuery(null, actualFirstPage.next(), 1));
+
+            // Then
+            assertEquals(List.of(series.getId()),
+                    actualFirstPage.items().stream().map(CategoryFeedItem::id).toList());
+            assertFalse(actualFirstPage.items().get(0).isRemoved());
+            assertTrue(actualFirstPage.hasNext());
+
+            assertEquals(List.of(filmes.getId()),
+                    actualSecondPage.items().stream().map(CategoryFeedItem::id).toList());
+            assertTrue(actualSecondPage.items().get(0).isRemoved());
+            assertNull(actualSecondPage.items().get(0).category());
+            assertFalse(actualSecondPage.hasNext());
+        }
+
+        @Test
+        void Given_a_malformed_cursor_When_calls_findChanges_Then_should_name_the_cursor_parameter() {
+            // Given
+            final var expectedErrorMessage = "'cursor' is not a valid cursor";
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> categoryGateway.findChanges(new CategoryChangesQuery(null, "not-a-cursor", 10)));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+
+        @Test
+        void Given_a_list_cursor_When_calls_findChanges_Then_should_throw_domain_exception() {
+            // Given
+            final var updatedAt = Instant.parse("2024-01-02T00:00:00Z");
+            repository.saveAllAndFlush(List.of(
+                    CategoryJpaEntity.from(aCategoryUpdatedAt("Filmes", updatedAt, true)),
+                    CategoryJpaEntity.from(aCategoryUpdatedAt("Séries", updatedAt, true))
+            ));
+
+            final var aListCursor = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"))
+                    .next();
+            final var expectedErrorMessage = "'cursor' does not belong to the change feed";
+
+            // When
+            final var actualException = assertThrows(DomainException.class,
+                    () -> categoryGateway.findChanges(new CategoryChangesQuery(null, aListCursor, 10)));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        }
+
+        private Category aCategoryUpdatedAt(final String aName, final Instant anUpdatedAt, final boolean isActive) {
+            return Category.with(CategoryID.unique(), aName, null, isActive, anUpdatedAt, anUpdatedAt,
+                    isActive ? null : anUpdatedAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("Append domain events to the outbox")
+    class AppendDomainEventsToTheOutbox {
+
+        @Test
+        void Given_a_new_category_When_calls_create_Then_should_store_its_created_event() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+
+            // When
+            categoryGateway.create(aCategory);
+
+            // Then
+            final var actualEvents = outboxEventRepository.findAll();
+            assertEquals(1, actualEvents.size());
+            assertEquals("Category", actualEvents.get(0).getAggregateType());
+            assertEquals(aCategory.getId().getValue(), actualEvents.get(0).getAggregateId());
+            assertEquals(CategoryEvent.CREATED, actualEvents.get(0).getEventType());
+            assertTrue(actualEvents.get(0).getPayload().contains(aCategory.getId().getValue()));
+            assertTrue(aCategory.getDomainEvents().isEmpty());
+        }
+
+        @Test
+        void Given_new_categories_When_calls_createAll_Then_should_store_one_created_event_each() {
+            // Given
+            final var categories = List.of(
+                    Category.newCategory("Filmes", null),
+                    Category.newCategory("Séries", null).deactivate());
+
+            // When
+            categoryGateway.createAll(categories);
+
+            // Then
+            assertEquals(
+                    List.of(CategoryEvent.CREATED, CategoryEvent.CREATED, CategoryEvent.DEACTIVATED),
+                    outboxEventRepository.findAll().stream()
+                            .sorted(Comparator.comparing(OutboxEventJpaEntity::getEventType))
+                            .map(OutboxEventJpaEntity::getEventType)
+                            .toList());
+        }
+
+        @Test
+        void Given_a_stored_category_When_calls_the_conditional_updates_Then_should_store_one_event_each() {
+            // Given
+            final var aCategory = Category.newCategory("Film", null);
+            repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+            final var updatedAt = Instant.now();
+
+            // When
+            categoryGateway.applyChange(Category.updateOf(aCategory.getId(), "Filmes", null, updatedAt));
+            categoryGateway.applyChange(Category.deactivationOf(aCategory.getId(), updatedAt.plusSeconds(1)));
+            categoryGateway.applyChange(Category.activationOf(aCategory.getId(), updatedAt.plusSeconds(2)));
+
+            // Then
+            final var actualEvents = outboxEventRepository.findAll().stream()
+                    .sorted(Comparator.comparing(OutboxEventJpaEntity::getOccurredAt))
+                    .toList();
+            assertEquals(
+                    List.of(CategoryEvent.UPDATED, CategoryEvent.DEACTIVATED, CategoryEvent.ACTIVATED),
+                    actualEvents.stream().map(OutboxEventJpaEntity::getEventType).toList());
+            assertEquals(updatedAt.truncatedTo(ChronoUnit.MILLIS),
+                    actualEvents.get(0).getOccurredAt().truncatedTo(ChronoUnit.MILLIS));
+        }
+
+        @Test
+        void Given_a_non_stored_id_When_calls_the_conditional_updates_Then_should_not_store_events() {
+            // Given
+            final var anId = CategoryID.unique();
+
+            // When
+            categoryGateway.applyChange(Category.updateOf(anId, "Filmes", null, Instant.now()));
+            categoryGateway.applyChange(Category.activationOf(anId, Instant.now()));
+            categoryGateway.applyChange(Category.deactivationOf(anId, Instant.now()));
+
+            // Then
+            assertEquals(0, outboxEventRepository.count());
+        }
+
+        @Test
+        void Given_stored_categories_When_calls_the_deletes_Then_should_store_one_deleted_event_each() {
+            // Given
+            final var filmes = Category.newCategory("Filmes", null);
+            final var series = Category.newCategory("Séries", null);
+            final var documentarios = Category.newCategory("Documentários", null);
+            repository.saveAllAndFlush(List.of(
+                    CategoryJpaEntity.from(filmes),
+                    CategoryJpaEntity.from(series),
+                    CategoryJpaEntity.from(documentarios)
+            ));
+
+            // When
+            categoryGateway.deleteById(filmes.getId());
+            categoryGateway.deleteAllById(List.of(series.getId(), documentarios.getId(), CategoryID.unique()));
+
+            // Then
+            final var actualEvents = outboxEventRepository.findAll();
+            assertEquals(
+                    List.of(CategoryEvent.DELETED, CategoryEvent.DELETED, CategoryEvent.DELETED),
+                    actualEvents.stream().map(OutboxEventJpaEntity::getEventType).toList());
+            assertEquals(
+                    Set.of(filmes.getId().getValue(), series.getId().getValue(), documentarios.getId().getValue()),
+                    actualEvents.stream().map(OutboxEventJpaEntity::getAggregateId).collect(Collectors.toSet()));
+            assertEquals(
+                    Set.of(filmes.getId().getValue(), series.getId().getValue(), documentarios.getId().getValue()),
+                    tombstoneRepository.findAll().stream()
+                            .map(CategoryTombstoneJpaEntity::getId)
+                            .collect(Collectors.toSet()));
+        }
+
+        @Test
+        void Given_a_non_stored_id_When_calls_the_deletes_Then_should_not_store_events() {
+            // Given
+            final var anId = CategoryID.unique();
+
+            // When
+            categoryGateway.deleteById(anId);
+            categoryGateway.deleteAllById(List.of(anId));
+
+            // Then
+            assertEquals(0, outboxEventRepository.count());
+            assertEquals(0, tombstoneRepository.count());
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategoryNegativeCacheGatewayTest {
+
+    @Mock
+    CategoryGateway delegate;
+
+    CategoryNegativeCacheGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        categoryGateway = new CategoryNegativeCacheGateway(
+                delegate, Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("Find a missing category by id")
+    class FindMissingCategoryById {
+
+        @Test
+        void Given_an_unknown_id_When_calls_findById_twice_Then_should_hit_the_delegate_once() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.empty());
+
+            // When
+            final var firstResult = categoryGateway.findById(expectedId);
+            final var secondResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(firstResult.isEmpty());
+            assertTrue(secondResult.isEmpty());
+            verify(delegate, times(1)).findById(eq(expectedId));
+        }
+
+        @Test
+        void Given_an_existing_id_When_calls_findById_twice_Then_should_always_hit_the_delegate() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.of(aCategory));
+
+            // When
+            categoryGateway.findById(expectedId);
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(actualResult.isPresent());
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+
+        @Test
+        void Given_a_known_absent_id_When_calls_deleteById_Then_should_not_hit_the_delegate() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.empty());
+            categoryGateway.findById(expectedId);
+
+            // When
+            categoryGateway.deleteById(expectedId);
+
+            // Then
+            verify(delegate, never()).deleteById(any());
+        }
+
+        @Test
+        void Given_known_absent_ids_When_calls_deleteAllById_Then_should_delete_only_the_unknown_ones() {
+            // Given
+            final var absentId = CategoryID.from("123");
+            final var unknownId = CategoryID.from("456");
+            when(delegate.findById(eq(absentId)))
+                    .thenReturn(Optional.empty());
+            categoryGateway.findById(absentId);
+
+            // When
+            categoryGateway.deleteAllById(List.of(absentId, unknownId));
+
+            // Then
+            verify(delegate, times(1)).deleteAllById(eq(List.of(unknownId)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidate a missing category")
+    class InvalidateMissingCategory {
+
+        @Test
+        void Given_a_known_absent_id_When_calls_create_with_that_id_Then_should_find_it() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.empty())
+                    .thenReturn(Optional.of(aCategory));
+            when(delegate.create(any(Category.class)))
+                    .thenAnswer(returnsFirstArg());
+            categoryGateway.findById(expectedId);
+
+            // When
+            categoryGateway.create(aCategory);
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(actualResult.isPresent());
+            verify(delegate, times(2)).findById(eq(expectedId));
+        }
+
+        @Test
+        void Given_a_deleted_category_When_calls_findById_Then_should_not_hit_the_delegate() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+
+            // When
+            categoryGateway.deleteById(expectedId);
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertTrue(actualResult.isEmpty());
+            verify(delegate, times(1)).deleteById(eq(expectedId));
+            verify(delegate, never()).findById(any());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.fullcycle.admin.catalogo.infrastructure.category;
+
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.admin.catalogo.domain.category.CategorySummary;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategorySingleFlightGatewayTest {
+
+    @Mock
+    CategoryGateway delegate;
+
+    SimpleMeterRegistry meterRegistry;
+
+    CategorySingleFlightGateway categoryGateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        categoryGateway = new CategorySingleFlightGateway(delegate, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Find a category by id concurrently")
+    class FindCategoryByIdConcurrently {
+
+        @Test
+        void Given_concurrent_calls_for_the_same_id_When_calls_findById_Then_should_hit_the_delegate_once() throws Exception {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            final var expectedId = aCategory.getId();
+            final var release = new CountDownLatch(1);
+            when(delegate.findById(eq(expectedId))).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return Optional.of(Category.with(aCategory));
+            });
+            final var executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // When
+                final var leader = CompletableFuture.supplyAsync(() -> categoryGateway.findById(expectedId), executor);
+                verify(delegate, timeout(5000)).findById(eq(expectedId));
+                final var follower = CompletableFuture.supplyAsync(() -> categoryGateway.findById(expectedId), executor);
+                awaitCollapsedCalls("findById", 1.0);
+                release.countDown();
+
+                // Then
+                assertEquals(expectedId, leader.get(5, TimeUnit.SECONDS).get().getId());
+                assertEquals(expectedId, follower.get(5, TimeUnit.SECONDS).get().getId());
+                assertNotSame(leader.get().get(), follower.get().get());
+                verify(delegate, times(1)).findById(eq(expectedId));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void Given_sequential_calls_for_the_same_id_When_calls_findById_Then_should_hit_the_delegate_every_time() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenReturn(Optional.empty());
+
+            // When
+            categoryGateway.findById(expectedId);
+            categoryGateway.findById(expectedId);
+
+            // Then
+            verify(delegate, times(2)).findById(eq(expectedId));
+            assertEquals(0.0, collapsedCalls("findById"));
+        }
+
+        @Test
+        void Given_a_failing_call_When_calls_findById_again_Then_should_not_keep_the_failure() {
+            // Given
+            final var expectedId = CategoryID.from("123");
+            when(delegate.findById(eq(expectedId)))
+                    .thenThrow(new IllegalStateException("Gateway error"))
+                    .thenReturn(Optional.empty());
+
+            // When
+            final var actualException = assertThrows(IllegalStateException.class,
+                    () -> categoryGateway.findById(expectedId));
+            final var actualResult = categoryGateway.findById(expectedId);
+
+            // Then
+            assertEquals("Gateway error", actualException.getMessage());
+            assertTrue(actualResult.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("List the same page of summaries concurrently")
+    class FindSummariesConcurrently {
+
+        @Test
+        void Given_concurrent_calls_for_the_same_query_When_calls_findSummaries_Then_should_hit_the_delegate_once() throws Exception {
+            // Given
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+            final var expectedPage = new Pagination<>(0, 10, 1, List.of(new CategorySummary(
+                    CategoryID.from("123"), "Filmes", null, true, Instant.now(), Instant.now(), null)));
+            final var release = new CountDownLatch(1);
+            when(delegate.findSummaries(eq(aQuery))).thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return expectedPage;
+            });
+            final var executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // When
+                final var leader = CompletableFuture.supplyAsync(() -> categoryGateway.findSummaries(aQuery), executor);
+                verify(delegate, timeout(5000)).findSummaries(eq(aQuery));
+                final var follower = CompletableFuture.supplyAsync(() -> categoryGateway.findSummaries(aQuery), executor);
+                awaitCollapsedCalls("findSummaries", 1.0);
+                release.countDown();
+
+                // Then
+                assertEquals(expectedPage, leader.get(5, TimeUnit.SECONDS));
+                assertEquals(expectedPage, follower.get(5, TimeUnit.SECONDS));
+                verify(delegate, times(1)).findSummaries(eq(aQuery));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void awaitCollapsedCalls(final String aMethod, final double expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (collapsedCalls(aMethod) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double collapsedCalls(final String aMethod) {
+        return meterRegistry.get(CategorySingleFlightGateway.COLLAPSED_CALLS)
+                .tag("method", aMethod)
+                .counter()
+                .count();
+    }
+}
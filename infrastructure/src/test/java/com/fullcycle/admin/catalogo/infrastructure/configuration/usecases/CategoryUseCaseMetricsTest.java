@@ -0,0 +1,110 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryCommand;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryItemOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryOutput;
+import com.fullcycle.admin.catalogo.application.category.create.batch.BatchCreateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.infrastructure.utils.CallMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class CategoryUseCaseMetricsTest {
+
+    @Mock
+    CreateCategoryUseCase createCategoryUseCase;
+
+    @Mock
+    BatchCreateCategoryUseCase batchCreateCategoryUseCase;
+
+    SimpleMeterRegistry meterRegistry;
+
+    CategoryUseCaseMetrics useCaseMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        useCaseMetrics = new CategoryUseCaseMetrics(meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Record every use case call")
+    class RecordEveryUseCaseCall {
+
+        @Test
+        void Given_a_notification_When_calls_create_category_Then_should_time_it_as_notification_without_an_error() {
+            // Given
+            final var expectedNotification = Notification.create(new Error("'name' should not be null"));
+            when(createCategoryUseCase.execute(any())).thenReturn(Either.left(expectedNotification));
+
+            // When
+            final var actualResult = useCaseMetrics.timed(createCategoryUseCase)
+                    .execute(CreateCategoryCommand.with(null, null));
+
+            // Then
+            assertEquals(expectedNotification, actualResult.getLeft());
+            assertEquals(1, meterRegistry.get(CategoryUseCaseMetrics.CALLS)
+                    .tag("usecase", "createCategory")
+                    .tag("outcome", CallMetrics.NOTIFICATION)
+                    .timer()
+                    .count());
+            assertNull(meterRegistry.find(CategoryUseCaseMetrics.ERRORS).counter());
+        }
+
+        @Test
+        void Given_a_created_category_When_calls_create_category_Then_should_time_it_as_success() {
+            // Given
+            final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida");
+            when(createCategoryUseCase.execute(any())).thenReturn(Either.right(CreateCategoryOutput.from(aCategory)));
+
+            // When
+            final var actualResult = useCaseMetrics.timed(createCategoryUseCase)
+                    .execute(CreateCategoryCommand.with("Filmes", "A categoria mais assistida"));
+
+            // Then
+            assertTrue(actualResult.isRight());
+            assertEquals(1, meterRegistry.get(CategoryUseCaseMetrics.CALLS)
+                    .tag("usecase", "createCategory")
+                    .tag("outcome", CallMetrics.SUCCESS)
+                    .timer()
+                    .count());
+            assertNull(meterRegistry.find(CategoryUseCaseMetrics.ERRORS).counter());
+        }
+
+        @Test
+        void Given_a_batch_When_calls_batch_create_category_Then_should_record_the_number_of_items() {
+            // Given
+            final var items = List.of(
+                    BatchCreateCategoryItemOutput.created(0, Category.newCategory("Filmes", null)),
+                    BatchCreateCategoryItemOutput.rejected(1, List.of(new Error("'name' should not be null"))));
+            when(batchCreateCategoryUseCase.execute(any()))
+                    .thenReturn(Either.right(BatchCreateCategoryOutput.from(items)));
+
+            // When
+            useCaseMetrics.timed(batchCreateCategoryUseCase).execute(BatchCreateCategoryCommand.with(List.of()));
+
+            // Then
+            assertEquals(2.0, meterRegistry.get(CategoryUseCaseMetrics.RESULT_SIZE)
+                    .tag("usecase", "batchCreateCategory")
+                    .summary()
+                    .totalAmount());
+        }
+    }
+}
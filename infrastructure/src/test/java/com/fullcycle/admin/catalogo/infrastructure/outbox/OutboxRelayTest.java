@@ -0,0 +1,179 @@
+package com.fullcycle.admin.catalogo.infrastructure.outbox;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.DomainEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryEvent;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // O relay abre e confirma as próprias transações.
+class OutboxRelayTest {
+
+    private static final Instant OCCURRED_ON = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(OCCURRED_ON.plusSeconds(2), ZoneOffset.UTC);
+
+    @Autowired
+    private Outbox outbox;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    private InMemoryEventPublisher publisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        publisher = new InMemoryEventPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Drain the outbox")
+    class DrainTheOutbox {
+
+        @Test
+        void Given_pending_events_When_calls_drain_Then_should_publish_them_in_order_and_remove_them() {
+            // Given
+            final var events = IntStream.range(0, 5)
+                    .mapToObj(i -> CategoryEvent.created(CategoryID.unique(), OCCURRED_ON))
+                    .toList();
+            append(events);
+            final var relay = relay(publisher, 2);
+
+            // When
+            final var actualCount = relay.drain();
+
+            // Then
+            assertEquals(5, actualCount);
+            assertEquals(0, outboxEventRepository.count());
+            assertEquals(
+                    events.stream().map(CategoryEvent::aggregateId).toList(),
+                    publisher.published().stream().map(OutboxMessage::aggregateId).toList());
+            assertEquals(CategoryEvent.CREATED, publisher.published().get(0).type());
+            assertEquals(5, meterRegistry.get(OutboxRelay.PUBLISHED).counter().count());
+            assertEquals(3, meterRegistry.get(OutboxRelay.BATCH).timer().count());
+            assertEquals(2, meterRegistry.get(OutboxRelay.LAG).timer().max(TimeUnit.SECONDS));
+        }
+
+        @Test
+        void Given_an_empty_outbox_When_calls_drain_Then_should_not_publish() {
+            // Given
+            final var relay = relay(publisher, 10);
+
+            // When
+            final var actualCount = relay.drain();
+
+            // Then
+            assertEquals(0, actualCount);
+            assertTrue(publisher.published().isEmpty());
+        }
+
+        @Test
+        void Given_a_failing_publisher_When_calls_drain_Then_should_keep_the_events_for_the_next_run() {
+            // Given
+            append(List.of(CategoryEvent.created(CategoryID.unique(), OCCURRED_ON)));
+            final EventPublisher failingPublisher = messages -> {
+                throw new IllegalStateException("Broker unavailable");
+            };
+            final var relay = relay(failingPublisher, 10);
+
+            // When
+            final var actualException = assertThrows(IllegalStateException.class, relay::drain);
+
+            // Then
+            assertEquals("Broker unavailable", actualException.getMessage());
+            assertEquals(1, outboxEventRepository.count());
+            assertEquals(1, meterRegistry.get(OutboxRelay.FAILURES).counter().count());
+            assertEquals(0, meterRegistry.get(OutboxRelay.PUBLISHED).counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Drain the outbox from several instances")
+    class DrainTheOutboxFromSeveralInstances {
+
+        @Test
+        void Given_two_relays_When_they_drain_concurrently_Then_should_publish_each_event_exactly_once() throws Exception {
+            // Given
+            final var events = IntStream.range(0, 200)
+                    .mapToObj(i -> CategoryEvent.created(CategoryID.unique(), OCCURRED_ON))
+                    .toList();
+            append(events);
+            final var firstPublisher = new InMemoryEventPublisher();
+            final var secondPublisher = new InMemoryEventPublisher();
+            final var firstRelay = relay(firstPublisher, 10);
+            final var secondRelay = relay(secondPublisher, 10);
+            final var start = new CountDownLatch(1);
+            final var executor = Executors.newFixedThreadPool(2);
+
+            try {
+                final var firstDrain = CompletableFuture.supplyAsync(() -> awaitAndDrain(start, firstRelay), executor);
+                final var secondDrain = CompletableFuture.supplyAsync(() -> awaitAndDrain(start, secondRelay), executor);
+
+                // When
+                start.countDown();
+                final var actualCount = firstDrain.get(30, TimeUnit.SECONDS) + secondDrain.get(30, TimeUnit.SECONDS);
+
+                // Then
+                final var actualIds = Stream.concat(firstPublisher.published().stream(), secondPublisher.published().stream())
+                        .map(OutboxMessage::aggregateId)
+                        .toList();
+                assertEquals(200, actualCount);
+                assertEquals(200, actualIds.size());
+                assertEquals(
+                        new HashSet<>(events.stream().map(CategoryEvent::aggregateId).toList()),
+                        new HashSet<>(actualIds));
+                assertEquals(0, outboxEventRepository.count());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        private long awaitAndDrain(final CountDownLatch start, final OutboxRelay relay) {
+            try {
+                start.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return relay.drain();
+        }
+    }
+
+    private void append(final List<? extends DomainEvent> events) {
+        transaction.executeWithoutResult(status -> outbox.append("Category", events));
+    }
+
+    private OutboxRelay relay(final EventPublisher aPublisher, final int batchSize) {
+        return new OutboxRelay(outboxEventRepository, aPublisher, batchSize, transaction, CLOCK, meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> rejections = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (final var operation : Operation.values()) {
+            this.histograms.put(operation, new ConcurrentHistogram(SIGNIFICANT_DIGITS));
+            this.errors.put(operation, new LongAdder());
+            this.rejections.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(final Operation anOperation, final long aLatencyNanos, final int aStatus) {
+        this.histograms.get(anOperation).recordValue(TimeUnit.NANOSECONDS.toMicros(aLatencyNanos));
+        if (aStatus == 503) {
+            this.rejections.get(anOperation).increment();
+        } else if (aStatus >= 400) {
+            this.errors.get(anOperation).increment();
+        }
+    }
+
+    public void recordFailure(final Operation anOperation, final long aLatencyNanos) {
+        this.histograms.get(anOperation).recordValue(TimeUnit.NANOSECONDS.toMicros(aLatencyNanos));
+        this.errors.get(anOperation).increment();
+    }
+
+    public void reset() {
+        this.histograms.values().forEach(Histogram::reset);
+        this.errors.values().forEach(LongAdder::reset);
+        this.rejections.values().forEach(LongAdder::reset);
+    }
+
+    public Histogram histogram(final Operation anOperation) {
+        return this.histograms.get(anOperation);
+    }
+
+    public long errors(final Operation anOperation) {
+        return this.errors.get(anOperation).sum();
+    }
+
+    public long rejections(final Operation anOperation) {
+        return this.rejections.get(anOperation).sum();
+    }
+}
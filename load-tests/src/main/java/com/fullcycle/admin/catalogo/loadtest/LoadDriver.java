@@ -0,0 +1,95 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadDriver {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+
+    public LoadDriver(final HttpClient aClient, final Workload aWorkload, final LatencyRecorder aRecorder) {
+        Objects.requireNonNull(aClient);
+        Objects.requireNonNull(aWorkload);
+        Objects.requireNonNull(aRecorder);
+        this.client = aClient;
+        this.workload = aWorkload;
+        this.recorder = aRecorder;
+    }
+
+    // Modelo fechado: cada usuário só envia a próxima requisição depois de receber a anterior,
+    // então a vazão cai junto com a latência.
+    public void runClosed(final int users, final Duration aDuration) throws InterruptedException {
+        final var deadline = System.nanoTime() + aDuration.toNanos();
+        final var executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    send(this.workload.next());
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(aDuration.plus(DRAIN_TIMEOUT).toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // Modelo aberto: as requisições chegam numa taxa fixa, independente das respostas. A latência é medida
+    // a partir do instante planejado de envio, para não esconder a fila (coordinated omission).
+    public void runOpen(final int rate, final Duration aDuration) throws InterruptedException {
+        final var interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        final var start = System.nanoTime();
+        final var total = aDuration.toNanos() / interval;
+        final var pending = new AtomicLong();
+        for (long i = 0; i < total; i++) {
+            final var intendedAt = start + i * interval;
+            final var delay = intendedAt - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            final var operation = this.workload.next();
+            pending.incrementAndGet();
+            this.client.sendAsync(this.workload.requestOf(operation), BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        final var latency = System.nanoTime() - intendedAt;
+                        if (error != null) {
+                            this.recorder.recordFailure(operation, latency);
+                        } else {
+                            this.recorder.record(operation, latency, response.statusCode());
+                        }
+                        pending.decrementAndGet();
+                    });
+        }
+        final var drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (pending.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (pending.get() > 0) {
+            System.err.printf("%d requests still pending after %s%n", pending.get(), DRAIN_TIMEOUT);
+        }
+    }
+
+    private void send(final Operation anOperation) {
+        final var request = this.workload.requestOf(anOperation);
+        final var startedAt = System.nanoTime();
+        try {
+            final var response = this.client.send(request, BodyHandlers.discarding());
+            this.recorder.record(anOperation, System.nanoTime() - startedAt, response.statusCode());
+        } catch (final IOException ex) {
+            this.recorder.recordFailure(anOperation, System.nanoTime() - startedAt);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+public record LoadTestOptions(
+        int categories,
+        LoadModel model,
+        int users,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadTest.";
+
+    public LoadTestOptions {
+        if (categories < 1) {
+            throw new IllegalArgumentException("'categories' should be positive but was %d".formatted(categories));
+        }
+        if (users < 1) {
+            throw new IllegalArgumentException("'users' should be positive but was %d".formatted(users));
+        }
+        if (rate < 1) {
+            throw new IllegalArgumentException("'rate' should be positive but was %d".formatted(rate));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() < 1) {
+            throw new IllegalArgumentException("'mix' should have at least one positive weight");
+        }
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                Integer.parseInt(property("categories", "10000")),
+                LoadModel.valueOf(property("model", "closed").toUpperCase(Locale.ROOT)),
+                Integer.parseInt(property("users", "32")),
+                Integer.parseInt(property("rate", "500")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT30S")),
+                parseMix(property("mix", "create=5,get=50,list=20,search=15,update=10")),
+                Path.of(property("reportDir", "build/reports/load-test"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(final String aMix) {
+        final var weights = new EnumMap<Operation, Integer>(Operation.class);
+        for (final var entry : aMix.split(",")) {
+            final var parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("'mix' entries should look like 'get=50' but was '%s'".formatted(entry));
+            }
+            weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(final String aName, final String aDefault) {
+        return System.getProperty(PREFIX + aName, aDefault);
+    }
+
+    public enum LoadModel {
+        CLOSED,
+        OPEN
+    }
+}
@@ -0,0 +1,147 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final LoadTestOptions options;
+    private final List<EndpointSummary> endpoints;
+
+    private LoadTestReport(final LoadTestOptions anOptions, final List<EndpointSummary> anEndpoints) {
+        this.options = anOptions;
+        this.endpoints = anEndpoints;
+    }
+
+    public static LoadTestReport from(final LoadTestOptions anOptions, final LatencyRecorder aRecorder) {
+        final var seconds = anOptions.duration().toMillis() / 1000.0;
+        final var endpoints = new ArrayList<EndpointSummary>();
+        for (final var operation : Operation.values()) {
+            final var histogram = aRecorder.histogram(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            final var percentiles = new LinkedHashMap<String, Double>();
+            for (final var percentile : PERCENTILES) {
+                percentiles.put("p" + format(percentile), millis(histogram.getValueAtPercentile(percentile)));
+            }
+            endpoints.add(new EndpointSummary(
+                    operation.name().toLowerCase(Locale.ROOT),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    aRecorder.errors(operation),
+                    aRecorder.rejections(operation),
+                    histogram.getMean() / 1000.0,
+                    percentiles,
+                    millis(histogram.getMaxValue())
+            ));
+        }
+        return new LoadTestReport(anOptions, endpoints);
+    }
+
+    public void writeTo(final Path aDirectory, final ObjectMapper aMapper) throws IOException {
+        Files.createDirectories(aDirectory);
+        final var content = new LinkedHashMap<String, Object>();
+        content.put("model", this.options.model().name().toLowerCase(Locale.ROOT));
+        content.put("categories", this.options.categories());
+        content.put("users", this.options.users());
+        content.put("rate", this.options.rate());
+        content.put("warmup_seconds", this.options.warmup().toSeconds());
+        content.put("duration_seconds", this.options.duration().toSeconds());
+        content.put("endpoints", this.endpoints);
+        aMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(aDirectory.resolve("results.json").toFile(), content);
+        Files.writeString(aDirectory.resolve("results.html"), html());
+    }
+
+    public String summary() {
+        final var out = new StringBuilder("%-8s %10s %10s %8s %8s %10s %10s %10s %10s%n"
+                .formatted("endpoint", "count", "req/s", "errors", "503", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (final var endpoint : this.endpoints) {
+            out.append("%-8s %10d %10.1f %8d %8d %10.2f %10.2f %10.2f %10.2f%n".formatted(
+                    endpoint.name(), endpoint.count(), endpoint.throughput(), endpoint.errors(),
+                    endpoint.rejections(), endpoint.percentiles().get("p50"), endpoint.percentiles().get("p99"),
+                    endpoint.percentiles().get("p99.9"), endpoint.maxMillis()));
+        }
+        return out.toString();
+    }
+
+    private String html() {
+        final var rows = new StringBuilder();
+        for (final var endpoint : this.endpoints) {
+            rows.append("<tr><td>%s</td><td>%d</td><td>%.1f</td><td>%d</td><td>%d</td><td>%.2f</td>".formatted(
+                    endpoint.name(), endpoint.count(), endpoint.throughput(), endpoint.errors(),
+                    endpoint.rejections(), endpoint.meanMillis()));
+            endpoint.percentiles().values().forEach(value -> rows.append("<td>%.2f</td>".formatted(value)));
+            rows.append("<td>%.2f</td></tr>%n".formatted(endpoint.maxMillis()));
+        }
+        final var headers = new StringBuilder();
+        for (final var percentile : PERCENTILES) {
+            headers.append("<th>p%s (ms)</th>".formatted(format(percentile)));
+        }
+        return """
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <title>Category API load test</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; }
+                th, td { border: 1px solid #ccc; padding: 0.3em 0.8em; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                </style>
+                </head>
+                <body>
+                <h1>Category API load test</h1>
+                <p>Model: %s &middot; categories: %d &middot; users: %d &middot; rate: %d req/s &middot; duration: %ds</p>
+                <table>
+                <tr><th>endpoint</th><th>count</th><th>req/s</th><th>errors</th><th>503</th><th>mean (ms)</th>%s<th>max (ms)</th></tr>
+                %s</table>
+                </body>
+                </html>
+                """.formatted(
+                this.options.model().name().toLowerCase(Locale.ROOT),
+                this.options.categories(),
+                this.options.users(),
+                this.options.rate(),
+                this.options.duration().toSeconds(),
+                headers,
+                rows
+        );
+    }
+
+    private static double millis(final long aMicros) {
+        return aMicros / 1000.0;
+    }
+
+    private static String format(final double aPercentile) {
+        return aPercentile == Math.rint(aPercentile)
+                ? String.valueOf((long) aPercentile)
+                : String.valueOf(aPercentile);
+    }
+
+    public record EndpointSummary(
+            String name,
+            long count,
+            double throughput,
+            long errors,
+            long rejections,
+            double meanMillis,
+            Map<String, Double> percentiles,
+            double maxMillis
+    ) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.WebServerConfig;
+import com.fullcycle.admin.catalogo.loadtest.LoadTestOptions.LoadModel;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+public final class LoadTestRunner {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final var options = LoadTestOptions.fromSystemProperties();
+        final var mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+        try (final var context = start()) {
+            final var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final var contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            final var baseUri = URI.create("http://localhost:%d%s/".formatted(port, contextPath));
+
+            System.out.printf("Seeding %d categories...%n", options.categories());
+            final var ids = seed(context, options.categories());
+
+            final var executor = Executors.newFixedThreadPool(options.users());
+            final var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            final var recorder = new LatencyRecorder();
+            final var driver = new LoadDriver(client, new Workload(baseUri, ids, options.mix(), mapper), recorder);
+
+            System.out.printf("Warming up for %s...%n", options.warmup());
+            run(driver, options, options.warmup());
+            recorder.reset();
+
+            System.out.printf("Running the %s model for %s...%n", options.model(), options.duration());
+            run(driver, options, options.duration());
+
+            final var report = LoadTestReport.from(options, recorder);
+            report.writeTo(options.reportDir(), mapper);
+            executor.shutdownNow();
+
+            System.out.print(report.summary());
+            System.out.printf("Report written to %s%n", options.reportDir().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("load-test")
+                .run();
+    }
+
+    private static void run(
+            final LoadDriver aDriver,
+            final LoadTestOptions anOptions,
+            final Duration aDuration
+    ) throws InterruptedException {
+        if (aDuration.isZero() || aDuration.isNegative()) {
+            return;
+        }
+        if (anOptions.model() == LoadModel.OPEN) {
+            aDriver.runOpen(anOptions.rate(), aDuration);
+        } else {
+            aDriver.runClosed(anOptions.users(), aDuration);
+        }
+    }
+
+    private static List<String> seed(final ConfigurableApplicationContext aContext, final int aTotal) {
+        final var repository = aContext.getBean(CategoryRepository.class);
+        final var ids = new ArrayList<String>(aTotal);
+        for (int offset = 0; offset < aTotal; offset += SEED_BATCH_SIZE) {
+            final var entities = IntStream.range(offset, Math.min(offset + SEED_BATCH_SIZE, aTotal))
+                    .mapToObj(i -> Category.newCategory("Category %07d".formatted(i), "Description of category " + i))
+                    .map(CategoryJpaEntity::from)
+                    .toList();
+            repository.saveAll(entities);
+            entities.forEach(entity -> ids.add(entity.getId()));
+        }
+        return ids;
+    }
+}
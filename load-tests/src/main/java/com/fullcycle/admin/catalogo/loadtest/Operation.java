@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+public enum Operation {
+    CREATE,
+    GET,
+    LIST,
+    SEARCH,
+    UPDATE
+}
@@ -0,0 +1,104 @@
+package com.fullcycle.admin.catalogo.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final String[] SEARCH_TERMS = {"category 00", "description of category 1", "category 0042", "zzz"};
+
+    private final URI baseUri;
+    private final List<String> ids;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final ObjectMapper mapper;
+
+    public Workload(
+            final URI aBaseUri,
+            final List<String> ids,
+            final Map<Operation, Integer> aMix,
+            final ObjectMapper aMapper
+    ) {
+        Objects.requireNonNull(aBaseUri);
+        Objects.requireNonNull(ids);
+        Objects.requireNonNull(aMix);
+        Objects.requireNonNull(aMapper);
+        this.baseUri = aBaseUri;
+        this.ids = List.copyOf(ids);
+        this.operations = aMix.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toArray(Operation[]::new);
+        this.cumulativeWeights = new int[this.operations.length];
+        int total = 0;
+        for (int i = 0; i < this.operations.length; i++) {
+            total += aMix.get(this.operations[i]);
+            this.cumulativeWeights[i] = total;
+        }
+        this.mapper = aMapper;
+    }
+
+    public Operation next() {
+        final var ticket = ThreadLocalRandom.current().nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (ticket < this.cumulativeWeights[i]) {
+                return this.operations[i];
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    public HttpRequest requestOf(final Operation anOperation) {
+        final var random = ThreadLocalRandom.current();
+        return switch (anOperation) {
+            case CREATE -> json("categories")
+                    .POST(body(Map.of("name", "Load test %08d".formatted(random.nextInt(100_000_000)),
+                            "description", "Created by the load test")))
+                    .build();
+            case GET -> request("categories/" + randomId()).GET().build();
+            case LIST -> request("categories?page=%d&perPage=10&sort=name&dir=asc".formatted(random.nextInt(10)))
+                    .GET()
+                    .build();
+            case SEARCH -> request("categories?search=%s&perPage=10&sort=name&dir=asc".formatted(
+                    SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)].replace(" ", "%20")))
+                    .GET()
+                    .build();
+            case UPDATE -> json("categories/" + randomId())
+                    .PUT(body(Map.of("name", "Updated %08d".formatted(random.nextInt(100_000_000)),
+                            "description", "Updated by the load test")))
+                    .build();
+        };
+    }
+
+    private String randomId() {
+        return this.ids.get(ThreadLocalRandom.current().nextInt(this.ids.size()));
+    }
+
+    private HttpRequest.Builder request(final String aPath) {
+        return HttpRequest.newBuilder(this.baseUri.resolve(aPath)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.Builder json(final String aPath) {
+        return request(aPath)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body(final Map<String, String> aBody) {
+        try {
+            return BodyPublishers.ofString(this.mapper.writeValueAsString(aBody));
+        } catch (final JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}